@@ -0,0 +1,30 @@
+package dev.cleanhive.benchmarks;
+
+import java.util.Properties;
+
+import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
+import org.springframework.core.io.ClassPathResource;
+
+// Settings of the application.yml shipped in the application jar, so benchmarks run with the
+// values the backend uses instead of copies that drift
+final class AppProperties {
+
+    private static final Properties PROPERTIES = load();
+
+    private AppProperties() {
+    }
+
+    static String get(String name) {
+        String value = PROPERTIES.getProperty(name);
+        if (value == null) {
+            throw new IllegalStateException(name + " is not set in application.yml");
+        }
+        return value;
+    }
+
+    private static Properties load() {
+        YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
+        yaml.setResources(new ClassPathResource("application.yml"));
+        return yaml.getObject();
+    }
+}
@@ -0,0 +1,97 @@
+package dev.cleanhive.benchmarks;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import dev.cleanhive.Users.User;
+import dev.cleanhive.feedbacks.Feedback;
+import dev.cleanhive.tasks.Tasks;
+
+// Deterministic test data shaped like what the mobile app stores
+final class Fixtures {
+
+    private static final String[] CONDITION = { "As expected", "As expected", "As expected", "Dirty", "Damaged" };
+    private static final String[] SAFETY = { "No", "No", "No", "No", "Wet floor" };
+    private static final String[] QUALITY = { "Excellent", "Good", "Good", "Fair", "Poor" };
+    private static final String[] SATISFACTION = { "Very Satisfied", "Satisfied", "Satisfied", "Neutral", "Dissatisfied" };
+    private static final String[] CATEGORIES = { "Cleanliness", "Supplies", "Odor", "Damage", "Other" };
+
+    private static final Instant BASE = Instant.parse("2025-05-01T06:00:00Z");
+
+    private Fixtures() {
+    }
+
+    static Tasks task(int i) {
+        Tasks task = new Tasks();
+        task.setTaskId(uuid("task", i));
+        task.setManagerId(uuid("manager", i / 200));
+        task.setEmployeeId(uuid("employee", i % 40));
+        task.setTitle("Room " + (100 + i % 60));
+        task.setDescription("Clean the floor, empty the bins and refill the soap dispensers");
+        task.setStartTime(BASE.plus(i, ChronoUnit.HOURS));
+        task.setEndTime(BASE.plus(i + 1, ChronoUnit.HOURS));
+        task.setImageUrl(1746079200000L + i + "_upload.jpg");
+        task.setQuestionnaireOne(CONDITION[i % CONDITION.length]);
+        task.setQuestionnaireTwo(i % 7 == 0 ? "Paper towels were missing" : "");
+        task.setQuestionnaireThree(SAFETY[(i / 3) % SAFETY.length]);
+        task.setQuestionnaireFour(QUALITY[(i / 2) % QUALITY.length]);
+        task.setQuestionnaireFive(SATISFACTION[(i / 5) % SATISFACTION.length]);
+        task.setSubmissionTime(BASE.plus(i + 1, ChronoUnit.HOURS).minus(10, ChronoUnit.MINUTES));
+        task.setDone(i % 3 != 0);
+        return task;
+    }
+
+    static User user(int i) {
+        User user = new User();
+        user.setUserId(uuid("employee", i));
+        user.setName("Name" + i);
+        user.setSurname("Surname" + i);
+        user.setPhoneNumber(String.format("+90555%07d", i));
+        user.setPassword("$2a$10$7EqJtq98hPqEX7fNZaFWoO5v9LlQzqzHn5d8Yb8dc6F8S2nEZQK7m");
+        user.setManager(i % 40 == 0);
+        user.setLang(i % 2 == 0 ? "en" : "tr");
+        return user;
+    }
+
+    static Feedback feedback(int i) {
+        Feedback feedback = new Feedback();
+        feedback.setFeedbackId(uuid("feedback", i));
+        feedback.setRoomId(uuid("room", i % 60));
+        feedback.setRating(1 + i % 5);
+        feedback.setCategory(CATEGORIES[i % CATEGORIES.length]);
+        feedback.setDescription("The sink was not cleaned and the soap dispenser is empty");
+        feedback.setSubmissionTime(BASE.plus(i, ChronoUnit.MINUTES).toString());
+        return feedback;
+    }
+
+    static List<Tasks> tasks(int size) {
+        List<Tasks> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tasks.add(task(i));
+        }
+        return tasks;
+    }
+
+    static List<User> users(int size) {
+        List<User> users = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            users.add(user(i));
+        }
+        return users;
+    }
+
+    static List<Feedback> feedbacks(int size) {
+        List<Feedback> feedbacks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            feedbacks.add(feedback(i));
+        }
+        return feedbacks;
+    }
+
+    private static String uuid(String kind, int i) {
+        return UUID.nameUUIDFromBytes((kind + i).getBytes()).toString();
+    }
+}
@@ -0,0 +1,122 @@
+package dev.cleanhive.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import dev.cleanhive.Users.User;
+import dev.cleanhive.feedbacks.Feedback;
+import dev.cleanhive.tasks.Tasks;
+
+// Jackson (de)serialization of the list payloads returned by GET /tasks, /users and /feedbacks,
+// as JSON and as the opt-in binary encodings the API negotiates (CBOR, Smile)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class JsonBenchmark {
+
+    // Roughly: one worker's day, one team's week, a whole site
+    @Param({ "10", "200", "5000" })
+    private int size;
+
+    @Param({ "json", "cbor", "smile" })
+    private String format;
+
+    private ObjectWriter tasksWriter;
+    private ObjectReader tasksReader;
+    private ObjectWriter usersWriter;
+    private ObjectReader usersReader;
+    private ObjectWriter feedbacksWriter;
+    private ObjectReader feedbacksReader;
+
+    private List<Tasks> tasks;
+    private List<User> users;
+    private List<Feedback> feedbacks;
+
+    private byte[] tasksJson;
+    private byte[] usersJson;
+    private byte[] feedbacksJson;
+
+    @Setup
+    public void setUp() throws Exception {
+        // Same settings Spring Boot applies to the MVC ObjectMapper
+        Jackson2ObjectMapperBuilder builder = switch (format) {
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile();
+            default -> Jackson2ObjectMapperBuilder.json();
+        };
+        ObjectMapper mapper = builder.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+
+        TypeReference<List<Tasks>> tasksType = new TypeReference<>() {
+        };
+        TypeReference<List<User>> usersType = new TypeReference<>() {
+        };
+        TypeReference<List<Feedback>> feedbacksType = new TypeReference<>() {
+        };
+        tasksWriter = mapper.writerFor(tasksType);
+        tasksReader = mapper.readerFor(tasksType);
+        usersWriter = mapper.writerFor(usersType);
+        usersReader = mapper.readerFor(usersType);
+        feedbacksWriter = mapper.writerFor(feedbacksType);
+        feedbacksReader = mapper.readerFor(feedbacksType);
+
+        tasks = Fixtures.tasks(size);
+        users = Fixtures.users(size);
+        feedbacks = Fixtures.feedbacks(size);
+
+        tasksJson = tasksWriter.writeValueAsBytes(tasks);
+        usersJson = usersWriter.writeValueAsBytes(users);
+        feedbacksJson = feedbacksWriter.writeValueAsBytes(feedbacks);
+    }
+
+    @Benchmark
+    public byte[] serializeTasks() throws Exception {
+        return tasksWriter.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public List<Tasks> deserializeTasks() throws Exception {
+        return tasksReader.readValue(tasksJson);
+    }
+
+    @Benchmark
+    public byte[] serializeUsers() throws Exception {
+        return usersWriter.writeValueAsBytes(users);
+    }
+
+    @Benchmark
+    public List<User> deserializeUsers() throws Exception {
+        return usersReader.readValue(usersJson);
+    }
+
+    @Benchmark
+    public byte[] serializeFeedbacks() throws Exception {
+        return feedbacksWriter.writeValueAsBytes(feedbacks);
+    }
+
+    @Benchmark
+    public List<Feedback> deserializeFeedbacks() throws Exception {
+        return feedbacksReader.readValue(feedbacksJson);
+    }
+}
@@ -0,0 +1,138 @@
+package dev.cleanhive.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+// Time-to-first-request of the packaged backend: starts the jar as a new JVM and polls the
+// readiness probe until it answers 200. Compares the plain fat jar with the fast-start build
+// (AOT + CDS, mvn -Pfast-start package) and writes the numbers to startup-result.json.
+//
+//   java -cp target/benchmarks.jar dev.cleanhive.benchmarks.StartupBenchmark --target=../CleanHive/target --runs=5
+public class StartupBenchmark {
+
+    private static final String JAR = "CleanHive-0.0.1-SNAPSHOT.jar";
+    private static final String PROBE = "/actuator/health/readiness";
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+    private final String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        Path target = Paths.get(options.getOrDefault("target", "../CleanHive/target")).toAbsolutePath().normalize();
+        int runs = Integer.parseInt(options.getOrDefault("runs", "5"));
+        String modes = options.getOrDefault("modes", "plain,fast-start");
+
+        StartupBenchmark benchmark = new StartupBenchmark();
+        Map<String, Object> results = new LinkedHashMap<>();
+        for (String mode : modes.split(",")) {
+            results.put(mode, benchmark.measure(mode, target, runs));
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(new File(options.getOrDefault("result", "startup-result.json")), results);
+    }
+
+    private Map<String, Object> measure(String mode, Path target, int runs) throws Exception {
+        List<Long> millis = new ArrayList<>();
+        for (int i = 0; i < runs; i++) {
+            long ms = timeToFirstRequest(mode, target);
+            System.out.printf("%-10s run %d: %d ms%n", mode, i + 1, ms);
+            millis.add(ms);
+        }
+        List<Long> sorted = new ArrayList<>(millis);
+        Collections.sort(sorted);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("runsMs", millis);
+        result.put("minMs", sorted.get(0));
+        result.put("medianMs", sorted.get(sorted.size() / 2));
+        result.put("maxMs", sorted.get(sorted.size() - 1));
+        System.out.printf("%-10s min %d / median %d / max %d ms%n", mode, sorted.get(0),
+                sorted.get(sorted.size() / 2), sorted.get(sorted.size() - 1));
+        return result;
+    }
+
+    private long timeToFirstRequest(String mode, Path target) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        Path workDir;
+        if ("fast-start".equals(mode)) {
+            workDir = target.resolve("fast-start");
+            command.add("-XX:SharedArchiveFile=application.jsa");
+            command.add("-Xlog:cds=off");
+            command.add("-Dspring.aot.enabled=true");
+            command.add("-Dspring.profiles.active=fast-start");
+        } else if ("plain".equals(mode)) {
+            workDir = target;
+        } else {
+            throw new IllegalArgumentException("Unknown mode " + mode);
+        }
+        command.add("-jar");
+        command.add(JAR);
+        command.add("--server.port=" + port);
+        // The plain build does not turn the probes on, the endpoint has to exist in both modes
+        command.add("--management.endpoint.health.probes.enabled=true");
+        command.add("--logging.level.root=WARN");
+
+        URI probe = URI.create("http://localhost:" + port + PROBE);
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).directory(workDir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            while (System.nanoTime() - start < TIMEOUT.toNanos()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(mode + " exited with " + process.exitValue());
+                }
+                if (isUp(probe)) {
+                    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                }
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException(mode + " did not become ready within " + TIMEOUT);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private boolean isUp(URI probe) throws InterruptedException {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(probe).timeout(Duration.ofSeconds(1)).build();
+            return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
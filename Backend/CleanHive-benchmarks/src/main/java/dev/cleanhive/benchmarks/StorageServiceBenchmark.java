@@ -0,0 +1,164 @@
+package dev.cleanhive.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+
+import dev.cleanhive.config.StorageService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// StorageService.uploadFile(MultipartFile, key), the path task submissions use, minus the network:
+// streaming the part into putObject and the metrics around it. Like Tomcat, parts larger than
+// spring.servlet.multipart.file-size-threshold are read from a spooled temp file, smaller ones
+// from memory.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StorageServiceBenchmark {
+
+    // Key shape of a submitted task photo
+    private static final String KEY = "6f1c2a9e-task_3b7d-submission_0.jpg";
+
+    // Small thumbnail, typical phone photo, spring.servlet.multipart.max-file-size
+    @Param({ "65536", "1048576", "5242880" })
+    private int fileSize;
+
+    private StorageService storageService;
+
+    private MultipartFile file;
+
+    private Path spooled;
+
+    @Setup
+    public void setUp() throws IOException {
+        byte[] content = new byte[fileSize];
+        new Random(42).nextBytes(content);
+        long threshold = DataSize.parse(AppProperties.get("spring.servlet.multipart.file-size-threshold")).toBytes();
+        if (fileSize > threshold) {
+            spooled = Files.createTempFile("benchmark-upload", ".tmp");
+            Files.write(spooled, content);
+            file = new SpooledMultipartFile(spooled, "benchmark-upload.jpg", "image/jpeg");
+        } else {
+            file = new MockMultipartFile("images", "benchmark-upload.jpg", "image/jpeg", content);
+        }
+
+        storageService = new StorageService();
+        ReflectionTestUtils.setField(storageService, "bucketName", "benchmark");
+        ReflectionTestUtils.setField(storageService, "s3Client", new DiscardingS3());
+        ReflectionTestUtils.setField(storageService, "meterRegistry", new SimpleMeterRegistry());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (spooled != null) {
+            Files.deleteIfExists(spooled);
+        }
+    }
+
+    @Benchmark
+    public void uploadFile() {
+        storageService.uploadFile(file, KEY);
+    }
+
+    // A multipart part Tomcat has written to its temp directory
+    static class SpooledMultipartFile implements MultipartFile {
+        private final Path path;
+        private final String originalFilename;
+        private final String contentType;
+
+        SpooledMultipartFile(Path path, String originalFilename, String contentType) {
+            this.path = path;
+            this.originalFilename = originalFilename;
+            this.contentType = contentType;
+        }
+
+        @Override
+        public String getName() {
+            return "images";
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return originalFilename;
+        }
+
+        @Override
+        public String getContentType() {
+            return contentType;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return getSize() == 0;
+        }
+
+        @Override
+        public long getSize() {
+            try {
+                return Files.size(path);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public byte[] getBytes() throws IOException {
+            return Files.readAllBytes(path);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return Files.newInputStream(path);
+        }
+
+        @Override
+        public void transferTo(File dest) throws IOException {
+            Files.copy(path, dest.toPath());
+        }
+    }
+
+    // Reads every upload to the end without sending it anywhere
+    static class DiscardingS3 extends AbstractAmazonS3 {
+        @Override
+        public PutObjectResult putObject(PutObjectRequest request) {
+            if (request.getInputStream() != null) {
+                try (InputStream in = request.getInputStream()) {
+                    in.transferTo(OutputStream.nullOutputStream());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return new PutObjectResult();
+        }
+    }
+}
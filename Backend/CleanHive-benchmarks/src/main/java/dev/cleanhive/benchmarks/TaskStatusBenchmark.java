@@ -0,0 +1,51 @@
+package dev.cleanhive.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import dev.cleanhive.tasks.Tasks;
+import dev.cleanhive.tasks.TasksService;
+
+// TasksService.evaluateStatus over a realistic mix of questionnaire answers
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class TaskStatusBenchmark {
+
+    private static final int TASKS = 1024;
+
+    private final TasksService tasksService = new TasksService();
+
+    private Tasks[] tasks;
+
+    @Setup
+    public void setUp() {
+        tasks = new Tasks[TASKS];
+        for (int i = 0; i < TASKS; i++) {
+            tasks[i] = Fixtures.task(i);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS)
+    public void evaluateStatus(Blackhole bh) {
+        for (Tasks task : tasks) {
+            bh.consume(tasksService.evaluateStatus(task));
+        }
+    }
+}
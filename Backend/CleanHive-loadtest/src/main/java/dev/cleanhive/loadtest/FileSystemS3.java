@@ -0,0 +1,88 @@
+package dev.cleanhive.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
+
+// Object store stand-in: buckets are directories and objects are files below root
+public class FileSystemS3 extends AbstractAmazonS3 {
+
+    private final Path root;
+
+    public FileSystemS3(Path root) {
+        this.root = root;
+    }
+
+    @Override
+    public PutObjectResult putObject(PutObjectRequest request) {
+        Path target = resolve(request.getBucketName(), request.getKey());
+        try {
+            Files.createDirectories(target.getParent());
+            if (request.getFile() != null) {
+                Files.copy(request.getFile().toPath(), target, StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                try (InputStream in = request.getInputStream()) {
+                    Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new PutObjectResult();
+    }
+
+    @Override
+    public S3Object getObject(String bucketName, String key) {
+        Path source = resolve(bucketName, key);
+        try {
+            ObjectMetadata metadata = new ObjectMetadata();
+            metadata.setContentLength(Files.size(source));
+            S3Object object = new S3Object();
+            object.setBucketName(bucketName);
+            object.setKey(key);
+            object.setObjectMetadata(metadata);
+            object.setObjectContent(new S3ObjectInputStream(Files.newInputStream(source), null));
+            return object;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public boolean doesObjectExist(String bucketName, String key) {
+        return Files.exists(resolve(bucketName, key));
+    }
+
+    @Override
+    public void deleteObject(String bucketName, String key) {
+        try {
+            Files.deleteIfExists(resolve(bucketName, key));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        // Nothing to release
+    }
+
+    private Path resolve(String bucketName, String key) {
+        Path bucket = root.resolve(bucketName).normalize();
+        Path path = bucket.resolve(key).normalize();
+        if (!path.startsWith(bucket)) {
+            throw new IllegalArgumentException("Key escapes the bucket: " + key);
+        }
+        return path;
+    }
+}
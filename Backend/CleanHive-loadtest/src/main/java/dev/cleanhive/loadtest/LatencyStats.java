@@ -0,0 +1,67 @@
+package dev.cleanhive.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+// Latency histograms per endpoint, in microseconds
+public class LatencyStats {
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    private volatile boolean recording;
+
+    public void startRecording() {
+        recording = true;
+    }
+
+    public void stopRecording() {
+        recording = false;
+    }
+
+    public void record(String endpoint, long nanos, boolean ok) {
+        if (!recording) {
+            return;
+        }
+        Endpoint stats = endpoints.computeIfAbsent(endpoint, name -> new Endpoint());
+        stats.histogram.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(nanos)));
+        if (!ok) {
+            stats.errors.increment();
+        }
+    }
+
+    public List<Row> report(double seconds) {
+        List<Row> rows = new ArrayList<>();
+        endpoints.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> {
+                    Histogram histogram = entry.getValue().histogram.copy();
+                    long count = histogram.getTotalCount();
+                    rows.add(new Row(entry.getKey(), count, entry.getValue().errors.sum(), count / seconds,
+                            millis(histogram.getValueAtPercentile(50)),
+                            millis(histogram.getValueAtPercentile(95)),
+                            millis(histogram.getValueAtPercentile(99)),
+                            millis(histogram.getMaxValue())));
+                });
+        return rows;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static class Endpoint {
+        private final ConcurrentHistogram histogram = new ConcurrentHistogram(3);
+        private final LongAdder errors = new LongAdder();
+    }
+
+    public record Row(String endpoint, long count, long errors, double throughput,
+            double p50, double p95, double p99, double max) {
+    }
+}
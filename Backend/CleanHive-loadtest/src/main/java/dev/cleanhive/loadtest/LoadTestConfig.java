@@ -0,0 +1,91 @@
+package dev.cleanhive.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+// Harness settings, given as --name=value arguments
+public class LoadTestConfig {
+
+    private static final Set<String> KNOWN = Set.of(
+            "teams", "roomsPerTeam", "usersPerTeam", "tasksPerUser", "feedbackPerRoom",
+            "virtualUsers", "warmupSeconds", "durationSeconds", "thinkTimeMs", "photoSizeKb",
+            "feedbackBurst", "loginWeight", "pollWeight", "completeWeight", "submitWeight", "feedbackWeight",
+            "reportFile");
+
+    // Seed data
+    final int teams;
+    final int roomsPerTeam;
+    final int usersPerTeam;
+    final int tasksPerUser;
+    final int feedbackPerRoom;
+
+    // Traffic
+    final int virtualUsers;
+    final int warmupSeconds;
+    final int durationSeconds;
+    final int thinkTimeMs;
+    final int photoSizeKb;
+    final int feedbackBurst;
+
+    // Relative weights of the scenarios each virtual user picks from
+    final int loginWeight;
+    final int pollWeight;
+    final int completeWeight;
+    final int submitWeight;
+    final int feedbackWeight;
+
+    final String reportFile;
+
+    LoadTestConfig(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            int split = arg.indexOf('=');
+            values.put(arg.substring(2, split), arg.substring(split + 1));
+        }
+
+        teams = intValue(values, "teams", 10);
+        roomsPerTeam = intValue(values, "roomsPerTeam", 30);
+        usersPerTeam = intValue(values, "usersPerTeam", 20);
+        tasksPerUser = intValue(values, "tasksPerUser", 50);
+        feedbackPerRoom = intValue(values, "feedbackPerRoom", 20);
+
+        virtualUsers = intValue(values, "virtualUsers", 50);
+        warmupSeconds = intValue(values, "warmupSeconds", 15);
+        durationSeconds = intValue(values, "durationSeconds", 60);
+        thinkTimeMs = intValue(values, "thinkTimeMs", 200);
+        photoSizeKb = intValue(values, "photoSizeKb", 800);
+        feedbackBurst = intValue(values, "feedbackBurst", 5);
+
+        loginWeight = intValue(values, "loginWeight", 5);
+        pollWeight = intValue(values, "pollWeight", 70);
+        completeWeight = intValue(values, "completeWeight", 15);
+        submitWeight = intValue(values, "submitWeight", 0);
+        feedbackWeight = intValue(values, "feedbackWeight", 10);
+
+        reportFile = values.getOrDefault("reportFile", "loadtest-report.json");
+        values.keySet().removeAll(KNOWN);
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + values.keySet());
+        }
+    }
+
+    private static int intValue(Map<String, String> values, String name, int defaultValue) {
+        String value = values.get(name);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "teams=%d roomsPerTeam=%d usersPerTeam=%d tasksPerUser=%d feedbackPerRoom=%d | "
+                        + "virtualUsers=%d warmup=%ds duration=%ds thinkTime=%dms photo=%dKB | "
+                        + "mix login/poll/complete/submit/feedback=%d/%d/%d/%d/%d",
+                teams, roomsPerTeam, usersPerTeam, tasksPerUser, feedbackPerRoom,
+                virtualUsers, warmupSeconds, durationSeconds, thinkTimeMs, photoSizeKb,
+                loginWeight, pollWeight, completeWeight, submitWeight, feedbackWeight);
+    }
+}
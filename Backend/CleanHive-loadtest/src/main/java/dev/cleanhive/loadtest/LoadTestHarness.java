@@ -0,0 +1,129 @@
+package dev.cleanhive.loadtest;
+
+import java.io.File;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import dev.cleanhive.CleanHiveApplication;
+
+// Boots the backend against an in-process Mongo and a filesystem object store, seeds it,
+// replays the mobile app's traffic mix and reports throughput and latency per endpoint.
+public class LoadTestHarness {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = new LoadTestConfig(args);
+        System.out.println("Load test: " + config);
+
+        MongoServer mongo = new MongoServer(new MemoryBackend());
+        InetSocketAddress mongoAddress = mongo.bind();
+        Path storageRoot = Files.createTempDirectory("cleanhive-objects");
+
+        ConfigurableApplicationContext app = new SpringApplicationBuilder(CleanHiveApplication.class,
+                LoadTestStorageConfig.class)
+                .run("--server.port=0",
+                        "--spring.data.mongodb.uri=mongodb://" + mongoAddress.getHostString() + ":"
+                                + mongoAddress.getPort(),
+                        "--loadtest.storage.root=" + storageRoot,
+                        "--spring.devtools.restart.enabled=false",
+                        // mongo-java-server has no 'hello' command, so the Mongo health check always fails
+                        "--management.health.mongo.enabled=false",
+                        "--logging.level.root=WARN");
+        try {
+            String baseUrl = "http://localhost:" + app.getEnvironment().getProperty("local.server.port") + "/api/v1";
+
+            long seedStart = System.nanoTime();
+            SeedData seed = new Seeder(app.getBean(MongoTemplate.class)).seed(config);
+            System.out.printf("Seeded %d workers in %d ms%n", seed.workers.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - seedStart));
+
+            List<LatencyStats.Row> rows = run(config, seed, baseUrl);
+            print(rows);
+            writeReport(config, rows);
+        } finally {
+            app.close();
+            mongo.shutdown();
+            deleteRecursively(storageRoot);
+        }
+    }
+
+    private static List<LatencyStats.Row> run(LoadTestConfig config, SeedData seed, String baseUrl)
+            throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        ObjectMapper mapper = new ObjectMapper();
+        byte[] photo = new byte[config.photoSizeKb * 1024];
+        new Random(42).nextBytes(photo);
+
+        LatencyStats stats = new LatencyStats();
+        List<VirtualUser> users = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(config.virtualUsers);
+        for (int i = 0; i < config.virtualUsers; i++) {
+            VirtualUser user = new VirtualUser(client, baseUrl, config, seed, stats, mapper, photo);
+            users.add(user);
+            executor.execute(user);
+        }
+
+        System.out.printf("Warming up for %d s%n", config.warmupSeconds);
+        Thread.sleep(TimeUnit.SECONDS.toMillis(config.warmupSeconds));
+        System.out.printf("Measuring for %d s%n", config.durationSeconds);
+        long start = System.nanoTime();
+        stats.startRecording();
+        Thread.sleep(TimeUnit.SECONDS.toMillis(config.durationSeconds));
+        stats.stopRecording();
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        users.forEach(VirtualUser::stop);
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+        return stats.report(seconds);
+    }
+
+    private static void print(List<LatencyStats.Row> rows) {
+        System.out.printf("%n%-32s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        for (LatencyStats.Row row : rows) {
+            System.out.printf("%-32s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    row.endpoint(), row.count(), row.errors(), row.throughput(),
+                    row.p50(), row.p95(), row.p99(), row.max());
+        }
+    }
+
+    private static void writeReport(LoadTestConfig config, List<LatencyStats.Row> rows) throws Exception {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("config", config.toString());
+        report.put("endpoints", rows);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(new File(config.reportFile), report);
+        System.out.println("\nReport written to " + config.reportFile);
+    }
+
+    private static void deleteRecursively(Path root) throws Exception {
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+}
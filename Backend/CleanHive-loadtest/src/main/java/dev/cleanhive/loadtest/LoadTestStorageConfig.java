@@ -0,0 +1,21 @@
+package dev.cleanhive.loadtest;
+
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import com.amazonaws.services.s3.AmazonS3;
+
+// Replaces the real S3 client of StorageConfig with the filesystem object store
+@Configuration
+public class LoadTestStorageConfig {
+
+    @Bean
+    @Primary
+    public AmazonS3 fileSystemS3(@Value("${loadtest.storage.root}") Path root) {
+        return new FileSystemS3(root);
+    }
+}
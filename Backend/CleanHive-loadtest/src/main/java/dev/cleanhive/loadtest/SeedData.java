@@ -0,0 +1,21 @@
+package dev.cleanhive.loadtest;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+// Ids of everything the seeder created, used by the virtual users to build requests
+public class SeedData {
+
+    public static final String PASSWORD = "loadtest-password";
+
+    final List<Worker> workers = new ArrayList<>();
+    final List<String> roomIds = new ArrayList<>();
+
+    record Worker(String userId, String phoneNumber, String managerId, List<SeededTask> tasks) {
+    }
+
+    record SeededTask(String taskId, String managerId, String employeeId, String title,
+            Instant startTime, Instant endTime) {
+    }
+}
@@ -0,0 +1,161 @@
+package dev.cleanhive.loadtest;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import dev.cleanhive.Users.User;
+import dev.cleanhive.feedbacks.Feedback;
+import dev.cleanhive.rooms.Rooms;
+import dev.cleanhive.tasks.Tasks;
+import dev.cleanhive.teams.Teams;
+
+// Fills the database directly, bypassing the API so seeding large sites stays fast
+public class Seeder {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String[] CATEGORIES = { "Cleanliness", "Supplies", "Odor", "Damage", "Other" };
+
+    private final MongoTemplate mongoTemplate;
+
+    public Seeder(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    public SeedData seed(LoadTestConfig config) {
+        SeedData seed = new SeedData();
+        // Same hash for everyone: bcrypt at the app's strength costs ~100ms per user
+        String passwordHash = new BCryptPasswordEncoder().encode(SeedData.PASSWORD);
+        Instant today = Instant.now().truncatedTo(ChronoUnit.DAYS);
+
+        List<Teams> teams = new ArrayList<>();
+        List<Rooms> rooms = new ArrayList<>();
+        List<User> users = new ArrayList<>();
+        List<Tasks> tasks = new ArrayList<>();
+        List<Feedback> feedbacks = new ArrayList<>();
+        int phone = 0;
+
+        for (int t = 0; t < config.teams; t++) {
+            String managerId = UUID.randomUUID().toString();
+            users.add(user(managerId, "Manager", t, String.format("+9055%08d", phone++), passwordHash, true));
+
+            List<String> teamRoomIds = new ArrayList<>();
+            for (int r = 0; r < config.roomsPerTeam; r++) {
+                String roomId = UUID.randomUUID().toString();
+                rooms.add(room(roomId, r, managerId));
+                teamRoomIds.add(roomId);
+                for (int f = 0; f < config.feedbackPerRoom; f++) {
+                    feedbacks.add(feedback(roomId, f, today.minus(f, ChronoUnit.HOURS)));
+                }
+            }
+            seed.roomIds.addAll(teamRoomIds);
+
+            List<String> employeeIds = new ArrayList<>();
+            for (int u = 0; u < config.usersPerTeam; u++) {
+                String userId = UUID.randomUUID().toString();
+                String phoneNumber = String.format("+9055%08d", phone++);
+                users.add(user(userId, "Worker", u, phoneNumber, passwordHash, false));
+                employeeIds.add(userId);
+
+                List<SeedData.SeededTask> workerTasks = new ArrayList<>();
+                for (int k = 0; k < config.tasksPerUser; k++) {
+                    // Spread over the last weeks and the coming days, a few per day
+                    Instant start = today.plus(k * 6L - config.tasksPerUser * 4L, ChronoUnit.HOURS);
+                    SeedData.SeededTask task = new SeedData.SeededTask(UUID.randomUUID().toString(), managerId,
+                            userId, "Room " + (100 + k % Math.max(1, config.roomsPerTeam)), start,
+                            start.plus(1, ChronoUnit.HOURS));
+                    workerTasks.add(task);
+                    tasks.add(task(task, start.isBefore(today)));
+                }
+                seed.workers.add(new SeedData.Worker(userId, phoneNumber, managerId, workerTasks));
+            }
+            teams.add(team(t, employeeIds, managerId));
+        }
+
+        insert(teams, Teams.class);
+        insert(rooms, Rooms.class);
+        insert(users, User.class);
+        insert(tasks, Tasks.class);
+        insert(feedbacks, Feedback.class);
+        return seed;
+    }
+
+    private <T> void insert(List<T> documents, Class<T> type) {
+        for (int i = 0; i < documents.size(); i += BATCH_SIZE) {
+            Collection<T> batch = documents.subList(i, Math.min(documents.size(), i + BATCH_SIZE));
+            mongoTemplate.insert(batch, type);
+        }
+    }
+
+    private static Teams team(int i, List<String> employeeIds, String managerId) {
+        Teams team = new Teams();
+        team.setTeamName("Team " + i);
+        team.setEmployeeId(employeeIds);
+        team.setManagerId(managerId);
+        return team;
+    }
+
+    private static Rooms room(String roomId, int i, String managerId) {
+        Rooms room = new Rooms();
+        room.setRoomId(roomId);
+        room.setRoomName("Room " + (100 + i));
+        room.setRoomFloor("Floor " + (i / 10));
+        // The app stores the manager's userId as the room's teamId
+        room.setTeamId(managerId);
+        return room;
+    }
+
+    private static Feedback feedback(String roomId, int i, Instant submissionTime) {
+        Feedback feedback = new Feedback();
+        feedback.setFeedbackId(UUID.randomUUID().toString());
+        feedback.setRoomId(roomId);
+        feedback.setRating(1 + i % 5);
+        feedback.setCategory(CATEGORIES[i % CATEGORIES.length]);
+        feedback.setDescription("Seeded feedback " + i);
+        feedback.setSubmissionTime(submissionTime.toString());
+        feedback.setSubmittedAt(submissionTime);
+        return feedback;
+    }
+
+    private static User user(String userId, String name, int i, String phoneNumber, String passwordHash,
+            boolean manager) {
+        User user = new User();
+        user.setUserId(userId);
+        user.setName(name + i);
+        user.setSurname("Surname" + i);
+        user.setPhoneNumber(phoneNumber);
+        user.setPassword(passwordHash);
+        user.setManager(manager);
+        user.setLang("en");
+        return user;
+    }
+
+    private static Tasks task(SeedData.SeededTask seeded, boolean done) {
+        Tasks task = new Tasks();
+        task.setTaskId(seeded.taskId());
+        task.setManagerId(seeded.managerId());
+        task.setEmployeeId(seeded.employeeId());
+        task.setTitle(seeded.title());
+        task.setDescription("Clean the floor, empty the bins and refill the soap dispensers");
+        task.setStartTime(seeded.startTime());
+        task.setEndTime(seeded.endTime());
+        task.setImageUrl("");
+        if (done) {
+            task.setQuestionnaireOne("As expected");
+            task.setQuestionnaireTwo("");
+            task.setQuestionnaireThree("No");
+            task.setQuestionnaireFour("Good");
+            task.setQuestionnaireFive("Satisfied");
+            task.setSubmissionTime(seeded.endTime());
+        }
+        task.setDone(done);
+        return task;
+    }
+}
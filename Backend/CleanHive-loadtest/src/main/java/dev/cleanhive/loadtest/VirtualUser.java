@@ -0,0 +1,221 @@
+package dev.cleanhive.loadtest;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// One simulated phone: picks a scenario by weight, runs it, thinks, repeats
+public class VirtualUser implements Runnable {
+
+    private static final String[] CATEGORIES = { "Cleanliness", "Supplies", "Odor", "Damage", "Other" };
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final LoadTestConfig config;
+    private final SeedData seed;
+    private final LatencyStats stats;
+    private final ObjectMapper mapper;
+    private final byte[] photo;
+
+    // Each virtual user is one phone, the backend tells callers apart by client address. Sent as
+    // X-Forwarded-For, which the backend trusts from a loopback peer like a local proxy
+    private static final AtomicInteger DEVICES = new AtomicInteger();
+    private final String address;
+
+    private volatile boolean running = true;
+
+    public VirtualUser(HttpClient client, String baseUrl, LoadTestConfig config, SeedData seed,
+            LatencyStats stats, ObjectMapper mapper, byte[] photo) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.config = config;
+        this.seed = seed;
+        this.stats = stats;
+        this.mapper = mapper;
+        this.photo = photo;
+        int device = DEVICES.incrementAndGet();
+        this.address = "10.0." + (device >> 8 & 255) + "." + (device & 255);
+    }
+
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public void run() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int total = config.loginWeight + config.pollWeight + config.completeWeight + config.submitWeight
+                + config.feedbackWeight;
+        while (running) {
+            SeedData.Worker worker = seed.workers.get(random.nextInt(seed.workers.size()));
+            int pick = random.nextInt(total);
+            try {
+                if ((pick -= config.loginWeight) < 0) {
+                    login(worker);
+                } else if ((pick -= config.pollWeight) < 0) {
+                    poll(worker);
+                } else if ((pick -= config.completeWeight) < 0) {
+                    complete(worker, random);
+                } else if ((pick -= config.submitWeight) < 0) {
+                    submit(worker, random);
+                } else {
+                    feedbackBurst(random);
+                }
+                if (config.thinkTimeMs > 0) {
+                    Thread.sleep(random.nextInt(config.thinkTimeMs * 2 + 1));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                // Already counted as an error by send(); keep the user going
+            }
+        }
+    }
+
+    private void login(SeedData.Worker worker) throws Exception {
+        send("POST /users/login", json("/users/login", "POST",
+                Map.of("phoneNumber", worker.phoneNumber(), "password", SeedData.PASSWORD)));
+    }
+
+    // What the worker homepage does when it (re)loads
+    private void poll(SeedData.Worker worker) throws Exception {
+        send("GET /teams/by-employee/{id}", get("/teams/by-employee/" + worker.userId()));
+        send("GET /tasks", get("/tasks"));
+    }
+
+    // Photo upload, questionnaire answers, then completion
+    private void complete(SeedData.Worker worker, ThreadLocalRandom random) throws Exception {
+        List<SeedData.SeededTask> tasks = worker.tasks();
+        if (tasks.isEmpty()) {
+            return;
+        }
+        SeedData.SeededTask task = tasks.get(random.nextInt(tasks.size()));
+
+        String boundary = UUID.randomUUID().toString();
+        HttpRequest upload = HttpRequest.newBuilder(URI.create(baseUrl + "/file/upload"))
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(multipart(boundary, "file", "upload.jpg", photo)))
+                .build();
+        String message = send("POST /file/upload", upload);
+        String imageUrl = message.substring(message.lastIndexOf(':') + 1).trim();
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("taskId", task.taskId());
+        body.put("managerId", task.managerId());
+        body.put("employeeId", task.employeeId());
+        body.put("title", task.title());
+        body.put("description", "Clean the floor, empty the bins and refill the soap dispensers");
+        body.put("startTime", task.startTime().toString());
+        body.put("endTime", task.endTime().toString());
+        body.put("submissionTime", Instant.now().toString());
+        body.put("imageUrl", imageUrl);
+        body.put("questionnaireOne", random.nextInt(5) == 0 ? "Dirty" : "As expected");
+        body.put("questionnaireTwo", "");
+        body.put("questionnaireThree", random.nextInt(20) == 0 ? "Wet floor" : "No");
+        body.put("questionnaireFour", "Good");
+        body.put("questionnaireFive", "Satisfied");
+        body.put("done", true);
+        send("PUT /tasks/update/{taskId}", json("/tasks/update/" + task.taskId(), "PUT", body));
+
+        send("PUT /tasks/{taskId}/complete", HttpRequest.newBuilder(URI.create(baseUrl + "/tasks/" + task.taskId() + "/complete"))
+                .PUT(HttpRequest.BodyPublishers.noBody())
+                .build());
+    }
+
+    // The same completion through the single multipart submit endpoint
+    private void submit(SeedData.Worker worker, ThreadLocalRandom random) throws Exception {
+        List<SeedData.SeededTask> tasks = worker.tasks();
+        if (tasks.isEmpty()) {
+            return;
+        }
+        SeedData.SeededTask task = tasks.get(random.nextInt(tasks.size()));
+
+        Map<String, String> answers = new LinkedHashMap<>();
+        answers.put("questionnaireOne", random.nextInt(5) == 0 ? "Dirty" : "As expected");
+        answers.put("questionnaireTwo", "");
+        answers.put("questionnaireThree", random.nextInt(20) == 0 ? "Wet floor" : "No");
+        answers.put("questionnaireFour", "Good");
+        answers.put("questionnaireFive", "Satisfied");
+
+        String boundary = UUID.randomUUID().toString();
+        ByteArrayOutputStream body = new ByteArrayOutputStream(photo.length + 1024);
+        answers.forEach((name, value) -> body.writeBytes(("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"" + name + "\"\r\n\r\n" + value + "\r\n")
+                .getBytes(StandardCharsets.UTF_8)));
+        body.writeBytes(multipart(boundary, "images", "upload.jpg", photo));
+
+        send("POST /tasks/{taskId}/submit", HttpRequest.newBuilder(URI.create(baseUrl + "/tasks/" + task.taskId() + "/submit"))
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .header("Idempotency-Key", UUID.randomUUID().toString())
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+                .build());
+    }
+
+    // Several people scanning the same room's QR code
+    private void feedbackBurst(ThreadLocalRandom random) throws Exception {
+        String roomId = seed.roomIds.get(random.nextInt(seed.roomIds.size()));
+        for (int i = 0; i < config.feedbackBurst; i++) {
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("feedbackId", UUID.randomUUID().toString());
+            body.put("roomId", roomId);
+            body.put("rating", 1 + random.nextInt(5));
+            body.put("category", CATEGORIES[random.nextInt(CATEGORIES.length)]);
+            body.put("description", "Load test feedback");
+            body.put("submissionTime", Instant.now().toString());
+            send("POST /feedbacks", json("/feedbacks", "POST", body));
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+    }
+
+    private HttpRequest json(String path, String method, Object body) throws Exception {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(body)))
+                .build();
+    }
+
+    private String send(String endpoint, HttpRequest request) throws Exception {
+        long start = System.nanoTime();
+        boolean ok = false;
+        try {
+            HttpRequest fromDevice = HttpRequest.newBuilder(request, (name, value) -> true)
+                    .header("X-Forwarded-For", address)
+                    .build();
+            HttpResponse<String> response = client.send(fromDevice, HttpResponse.BodyHandlers.ofString());
+            ok = response.statusCode() < 400;
+            if (!ok) {
+                throw new IllegalStateException(endpoint + " returned " + response.statusCode());
+            }
+            return response.body();
+        } finally {
+            stats.record(endpoint, System.nanoTime() - start, ok);
+        }
+    }
+
+    private static byte[] multipart(String boundary, String partName, String fileName, byte[] content) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream(content.length + 256);
+        String head = "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"" + partName + "\"; filename=\"" + fileName + "\"\r\n"
+                + "Content-Type: image/jpeg\r\n\r\n";
+        body.writeBytes(head.getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(content);
+        body.writeBytes(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return body.toByteArray();
+    }
+}
@@ -8,6 +8,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import dev.cleanhive.search.SearchPage;
+
 @RestController
 @RequestMapping("/api/v1/users")
 public class UserController {
@@ -21,6 +23,20 @@ public class UserController {
         return ResponseEntity.ok(userService.allUsers());
     }
 
+    // Search a manager's team members by name or surname (prefix and substring, case-insensitive)
+    @GetMapping("/search")
+    public ResponseEntity<?> searchUsers(@RequestParam String managerId,
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        if (page < 0 || size < 1 || size > 200) {
+            return new ResponseEntity<>("Invalid page or size", HttpStatus.BAD_REQUEST);
+        }
+        Optional<SearchPage<UserProfile>> result = userService.searchTeamMembers(managerId, q, page, size);
+        return result.<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> new ResponseEntity<>("Team not found", HttpStatus.NOT_FOUND));
+    }
+
     // Register a new user with phone number validation
     @PostMapping
     public ResponseEntity<?> addUser(@RequestBody User user) {
@@ -0,0 +1,24 @@
+package dev.cleanhive.Users;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// What other users may see of a user: no password hash
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserProfile {
+
+    private String userId;
+    private String name;
+    private String surname;
+    private String phoneNumber;
+    private boolean manager;
+    private String lang;
+
+    public static UserProfile of(User user) {
+        return new UserProfile(user.getUserId(), user.getName(), user.getSurname(), user.getPhoneNumber(),
+                user.isManager(), user.getLang());
+    }
+}
@@ -1,8 +1,11 @@
 package dev.cleanhive.Users;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.bson.types.ObjectId;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -13,4 +16,12 @@ public interface UserRepository extends MongoRepository<User, ObjectId> {
     
     // Check if a user already exists by phone number
     Optional<User> findByPhoneNumber(String phoneNumber);
+
+    // Users by userId, without the password hash; the field is stored as "UserId"
+    @Query(value = "{ 'UserId': { $in: ?0 } }", fields = "{ 'password': 0 }")
+    List<User> findByUserIds(Collection<String> userIds);
+
+    // Every user without the password hash, for the search index
+    @Query(value = "{}", fields = "{ 'password': 0 }")
+    List<User> findAllWithoutPassword();
 }
\ No newline at end of file
@@ -1,35 +1,112 @@
 package dev.cleanhive.Users;
 
+import static dev.cleanhive.search.NgramIndex.nullToEmpty;
+
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import dev.cleanhive.search.NgramIndex;
+import dev.cleanhive.search.SearchPage;
+import dev.cleanhive.teams.Teams;
+import dev.cleanhive.teams.TeamsService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
 @Service
 public class UserService {
 
     @Autowired
     private UserRepository userRepository;
 
-    private PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TeamsService teamsService;
+
+    @Value("${cleanhive.security.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    private PasswordEncoder passwordEncoder;
+
+    // Name, surname and full name of the members of each team, scoped by managerId and keyed
+    // by managerId:userId. Holds profiles only, never password hashes.
+    private NgramIndex<TeamMember> searchIndex;
+
+    // Member keys per managerId that had no user document when the scope was last loaded. Without
+    // this a team with such a member would not match its index and be reloaded on every search.
+    private final Map<String, Set<String>> missingMembers = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void createPasswordEncoder() {
+        passwordEncoder = new BCryptPasswordEncoder(bcryptStrength);
+    }
+
+    @PostConstruct
+    void createSearchIndex() {
+        searchIndex = new NgramIndex<>(TeamMember::key, TeamMember::managerId,
+                member -> List.of(nullToEmpty(member.profile().getName()),
+                        nullToEmpty(member.profile().getSurname()),
+                        nullToEmpty(member.profile().getName()) + " " + nullToEmpty(member.profile().getSurname())),
+                this::loadTeamMembers, this::loadAllTeamMembers);
+    }
+
+    // Picks up profile changes made on other instances; membership is checked on every search
+    @Scheduled(fixedDelayString = "${cleanhive.search.refresh-interval-ms:300000}",
+            initialDelayString = "${cleanhive.search.refresh-interval-ms:300000}")
+    void refreshSearchIndex() {
+        searchIndex.refresh();
+    }
 
     public List<User> allUsers() {
         return userRepository.findAll();
     }
 
+    // Fetch the given users only, e.g. the members of one team
+    public List<User> findUsersByIds(List<String> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return List.of();
+        }
+        return userRepository.findByUserIds(userIds);
+    }
+
     public User saveUser(User user) {
         if (userRepository.findByPhoneNumber(user.getPhoneNumber()).isPresent()) {
             throw new RuntimeException("Phone number already exists!");
         }
 
         // Hash password before saving
-        String hashedPassword = passwordEncoder.encode(user.getPassword());
+        String hashedPassword = meterRegistry.timer("cleanhive.bcrypt", "operation", "encode")
+                .record(() -> passwordEncoder.encode(user.getPassword()));
         user.setPassword(hashedPassword);
 
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        indexTeamMember(saved);
+        return saved;
+    }
+
+    // A user saved after being added to a team, e.g. a manager whose team was created first
+    private void indexTeamMember(User user) {
+        if (user.getUserId() == null) {
+            return;
+        }
+        UserProfile profile = UserProfile.of(user);
+        teamsService.getTeamByManagerId(user.getUserId())
+                .ifPresent(team -> searchIndex.put(new TeamMember(team.getManagerId(), profile)));
+        teamsService.getTeamByEmployeeId(user.getUserId())
+                .ifPresent(team -> searchIndex.put(new TeamMember(team.getManagerId(), profile)));
     }
 
     public Optional<User> authenticateUser(String phoneNumber, String rawPassword) {
@@ -38,10 +115,83 @@ public class UserService {
         if (userOpt.isPresent()) {
             User user = userOpt.get();
             // Verify raw password against hashed password stored in DB
-            if (passwordEncoder.matches(rawPassword, user.getPassword())) {
+            boolean matches = meterRegistry.timer("cleanhive.bcrypt", "operation", "matches")
+                    .record(() -> passwordEncoder.matches(rawPassword, user.getPassword()));
+            if (matches) {
                 return Optional.of(user);
             }
         }
         return Optional.empty();
     }
-}
\ No newline at end of file
+
+    // Search the manager's team members (and the manager) by name or surname
+    public Optional<SearchPage<UserProfile>> searchTeamMembers(String managerId, String query, int page, int size) {
+        Optional<Teams> team = teamsService.getTeamByManagerId(managerId);
+        if (team.isEmpty()) {
+            return Optional.empty();
+        }
+        // Joins and removals happen in TeamsService, possibly on another instance: reload the
+        // team's scope when its members differ from what is indexed or known to be missing
+        Set<String> expected = new HashSet<>();
+        for (String userId : memberIds(team.get())) {
+            expected.add(TeamMember.key(managerId, userId));
+        }
+        Set<String> known = new HashSet<>(searchIndex.keys(managerId));
+        known.addAll(missingMembers.getOrDefault(managerId, Set.of()));
+        if (!known.equals(expected)) {
+            searchIndex.reloadScope(managerId);
+            Set<String> missing = new HashSet<>(expected);
+            missing.removeAll(searchIndex.keys(managerId));
+            missingMembers.put(managerId, missing);
+        }
+        SearchPage<TeamMember> result = searchIndex.search(managerId, query, page, size);
+        return Optional.of(new SearchPage<>(result.getContent().stream().map(TeamMember::profile).toList(),
+                result.getPage(), result.getSize(), result.getTotalElements()));
+    }
+
+    // One team, two indexed reads
+    private List<TeamMember> loadTeamMembers(String managerId) {
+        return teamsService.getTeamByManagerId(managerId)
+                .map(team -> toMembers(team, userRepository.findByUserIds(memberIds(team))))
+                .orElse(List.of());
+    }
+
+    private List<TeamMember> loadAllTeamMembers() {
+        List<User> users = userRepository.findAllWithoutPassword();
+        List<TeamMember> members = new ArrayList<>();
+        for (Teams team : teamsService.allTeams()) {
+            members.addAll(toMembers(team, users));
+        }
+        return members;
+    }
+
+    private static List<TeamMember> toMembers(Teams team, List<User> users) {
+        Set<String> ids = new HashSet<>(memberIds(team));
+        return users.stream()
+                .filter(user -> ids.contains(user.getUserId()))
+                .map(user -> new TeamMember(team.getManagerId(), UserProfile.of(user)))
+                .toList();
+    }
+
+    // Employees and the manager
+    private static List<String> memberIds(Teams team) {
+        List<String> ids = new ArrayList<>();
+        if (team.getEmployeeIds() != null) {
+            ids.addAll(team.getEmployeeIds());
+        }
+        if (team.getManagerId() != null) {
+            ids.add(team.getManagerId());
+        }
+        return ids;
+    }
+
+    private record TeamMember(String managerId, UserProfile profile) {
+        private String key() {
+            return key(managerId, profile.getUserId());
+        }
+
+        private static String key(String managerId, String userId) {
+            return managerId + ":" + userId;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package dev.cleanhive.archive;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/admin/archive")
+public class ArchiveController {
+
+    @Autowired
+    private ArchiveService archiveService;
+
+    // Run an archival pass now instead of waiting for the nightly job
+    @PostMapping("/run")
+    public ResponseEntity<?> runArchive() {
+        try {
+            Map<String, Integer> moved = archiveService.archive();
+            return ResponseEntity.ok(moved);
+        } catch (IllegalStateException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.CONFLICT);
+        }
+    }
+}
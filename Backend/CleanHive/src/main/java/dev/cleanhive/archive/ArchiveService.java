@@ -0,0 +1,210 @@
+package dev.cleanhive.archive;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.mongodb.client.model.CreateCollectionOptions;
+
+import lombok.extern.slf4j.Slf4j;
+
+// Moves done tasks and old feedback out of the hot collections into archive collections,
+// so queries and indexes on tasks/feedbacks only cover recent data
+@Service
+@Slf4j
+public class ArchiveService {
+
+    public static final String TASKS_ARCHIVE = "tasks_archive";
+    public static final String FEEDBACKS_ARCHIVE = "feedbacks_archive";
+
+    // One lease document, shared by every instance
+    private static final String LOCKS = "locks";
+    private static final String LOCK_ID = "archive";
+
+    // Identifies this instance as the lease holder
+    private final String owner = UUID.randomUUID().toString();
+
+    private volatile boolean collectionsReady;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Value("${cleanhive.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${cleanhive.archive.task-age-days:90}")
+    private long taskAgeDays;
+
+    @Value("${cleanhive.archive.feedback-age-days:180}")
+    private long feedbackAgeDays;
+
+    @Value("${cleanhive.archive.batch-size:500}")
+    private int batchSize;
+
+    @Value("${cleanhive.archive.max-batches-per-run:200}")
+    private int maxBatchesPerRun;
+
+    @Value("${cleanhive.archive.lock-lease-minutes:10}")
+    private long lockLeaseMinutes;
+
+    @Scheduled(cron = "${cleanhive.archive.cron:0 30 3 * * *}")
+    public void scheduledArchive() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            archive();
+        } catch (IllegalStateException e) {
+            // Every instance fires the cron, the one holding the lease does the work
+            log.info("Skipping scheduled archival: {}", e.getMessage());
+        }
+    }
+
+    // Run one archival pass, returns the number of documents moved per collection
+    public Map<String, Integer> archive() {
+        if (!acquireLease()) {
+            throw new IllegalStateException("Archival is already running");
+        }
+        try {
+            ensureArchiveCollections();
+            int tasks = moveInBatches("tasks", TASKS_ARCHIVE,
+                    Criteria.where("done").is(true).and("endTime").lt(tasksArchivedBefore()));
+            int feedbacks = moveInBatches("feedbacks", FEEDBACKS_ARCHIVE,
+                    Criteria.where("submittedAt").lt(feedbacksArchivedBefore()));
+            log.info("Archived {} tasks and {} feedbacks", tasks, feedbacks);
+            return Map.of("tasks", tasks, "feedbacks", feedbacks);
+        } finally {
+            releaseLease();
+        }
+    }
+
+    // Done tasks that ended before this are (or will soon be) in the archive
+    public Instant tasksArchivedBefore() {
+        return Instant.now().minus(Duration.ofDays(taskAgeDays));
+    }
+
+    // Feedback submitted before this is (or will soon be) in the archive
+    public Instant feedbacksArchivedBefore() {
+        return Instant.now().minus(Duration.ofDays(feedbackAgeDays));
+    }
+
+    // Copy a batch into the archive, then delete it from the source. The copy is an upsert by
+    // _id, so a batch interrupted between the two steps is simply copied again next time. Until
+    // then its documents are in both collections, report reads keep one copy per _id.
+    private int moveInBatches(String source, String target, Criteria criteria) {
+        int moved = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            if (!renewLease()) {
+                // Ran past the lease and another instance took over, stop before moving more
+                log.warn("Archival lease lost, stopping after {} documents of {}", moved, source);
+                break;
+            }
+            Query query = Query.query(criteria).with(Sort.by("_id")).limit(batchSize);
+            List<Document> documents = mongoTemplate.find(query, Document.class, source);
+            if (documents.isEmpty()) {
+                break;
+            }
+
+            BulkOperations copy = mongoTemplate.bulkOps(BulkMode.UNORDERED, target);
+            for (Document document : documents) {
+                copy.replaceOne(Query.query(Criteria.where("_id").is(document.get("_id"))), document,
+                        FindAndReplaceOptions.options().upsert());
+            }
+            copy.execute();
+
+            List<Object> ids = documents.stream().map(document -> document.get("_id")).toList();
+            mongoTemplate.remove(Query.query(Criteria.where("_id").in(ids)), source);
+            moved += documents.size();
+
+            if (documents.size() < batchSize) {
+                break;
+            }
+        }
+        return moved;
+    }
+
+    // Take the lease if nobody holds it or the holder's lease ran out, e.g. because it crashed.
+    // findAndModify is atomic per document; when the lease is held the query matches nothing
+    // and the upsert collides with the existing _id.
+    private boolean acquireLease() {
+        Date now = new Date();
+        Query free = Query.query(Criteria.where("_id").is(LOCK_ID)
+                .orOperator(Criteria.where("lockedUntil").lt(now), Criteria.where("lockedUntil").exists(false)));
+        try {
+            mongoTemplate.findAndModify(free, leaseUpdate(), FindAndModifyOptions.options().upsert(true),
+                    Document.class, LOCKS);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    // Extend the lease between batches, false when another instance owns it by now
+    private boolean renewLease() {
+        Query mine = Query.query(Criteria.where("_id").is(LOCK_ID).and("owner").is(owner));
+        return mongoTemplate.updateFirst(mine, leaseUpdate(), LOCKS).getMatchedCount() > 0;
+    }
+
+    private void releaseLease() {
+        Query mine = Query.query(Criteria.where("_id").is(LOCK_ID).and("owner").is(owner));
+        mongoTemplate.updateFirst(mine, Update.update("lockedUntil", new Date()), LOCKS);
+    }
+
+    private Update leaseUpdate() {
+        Date now = new Date();
+        return new Update()
+                .set("owner", owner)
+                .set("lockedAt", now)
+                .set("lockedUntil", new Date(now.getTime() + Duration.ofMinutes(lockLeaseMinutes).toMillis()));
+    }
+
+    // Archive collections are created compressed with zstd where the server allows it
+    private void ensureArchiveCollections() {
+        if (collectionsReady) {
+            return;
+        }
+        createCompressed(TASKS_ARCHIVE);
+        createCompressed(FEEDBACKS_ARCHIVE);
+        mongoTemplate.indexOps(TASKS_ARCHIVE).ensureIndex(new Index().on("managerId", Sort.Direction.ASC)
+                .on("startTime", Sort.Direction.ASC));
+        mongoTemplate.indexOps(TASKS_ARCHIVE).ensureIndex(new Index().on("managerId", Sort.Direction.ASC)
+                .on("endTime", Sort.Direction.ASC));
+        mongoTemplate.indexOps(FEEDBACKS_ARCHIVE).ensureIndex(new Index().on("submittedAt", Sort.Direction.ASC));
+        collectionsReady = true;
+    }
+
+    private void createCompressed(String name) {
+        if (mongoTemplate.collectionExists(name)) {
+            return;
+        }
+        try {
+            mongoTemplate.getDb().createCollection(name, new CreateCollectionOptions().storageEngineOptions(
+                    new Document("wiredTiger", new Document("configString", "block_compressor=zstd"))));
+        } catch (RuntimeException e) {
+            log.warn("Could not create {} with zstd compression, using the server default", name, e);
+            if (!mongoTemplate.collectionExists(name)) {
+                mongoTemplate.createCollection(name);
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package dev.cleanhive.bootstrap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class BootstrapConfig {
+
+    // Pool the home screen lookups fan out on. As a bean it is shut down with the context and
+    // reported by Actuator under executor.* with name=bootstrapExecutor. A full queue rejects
+    // the lookup, the controller answers 503
+    @Bean
+    public ThreadPoolTaskExecutor bootstrapExecutor(@Value("${cleanhive.bootstrap.threads:16}") int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(threads * 8);
+        executor.setThreadNamePrefix("bootstrap-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(5);
+        return executor;
+    }
+}
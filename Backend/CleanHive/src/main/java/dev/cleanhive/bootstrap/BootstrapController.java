@@ -0,0 +1,65 @@
+package dev.cleanhive.bootstrap;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/bootstrap")
+public class BootstrapController {
+
+    @Autowired
+    private BootstrapService bootstrapService;
+
+    // Team, members, rooms and the day's tasks of a manager in one response
+    @GetMapping("/manager/{managerId}")
+    public ResponseEntity<?> getManagerBootstrap(@PathVariable String managerId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "UTC") String tz) {
+        try {
+            Instant[] range = dayRange(date, tz);
+            return ResponseEntity.ok(bootstrapService.managerBootstrap(managerId, range[0], range[1]));
+        } catch (DateTimeException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (RejectedExecutionException e) {
+            return busy();
+        }
+    }
+
+    // Team, manager contact, rooms and the day's tasks of a worker in one response
+    @GetMapping("/worker/{employeeId}")
+    public ResponseEntity<?> getWorkerBootstrap(@PathVariable String employeeId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "UTC") String tz) {
+        try {
+            Instant[] range = dayRange(date, tz);
+            return ResponseEntity.ok(bootstrapService.workerBootstrap(employeeId, range[0], range[1]));
+        } catch (DateTimeException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (RejectedExecutionException e) {
+            return busy();
+        }
+    }
+
+    private static ResponseEntity<?> busy() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body("Server is busy, try again later");
+    }
+
+    // [start of day, start of next day) in the caller's time zone, today if no date is given
+    private static Instant[] dayRange(LocalDate date, String tz) {
+        ZoneId zone = ZoneId.of(tz);
+        LocalDate day = date != null ? date : LocalDate.now(zone);
+        return new Instant[] { day.atStartOfDay(zone).toInstant(), day.plusDays(1).atStartOfDay(zone).toInstant() };
+    }
+}
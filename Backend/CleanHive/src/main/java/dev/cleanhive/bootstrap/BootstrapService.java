@@ -0,0 +1,91 @@
+package dev.cleanhive.bootstrap;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import dev.cleanhive.Users.UserProfile;
+import dev.cleanhive.Users.UserService;
+import dev.cleanhive.rooms.RoomService;
+import dev.cleanhive.rooms.Rooms;
+import dev.cleanhive.tasks.Tasks;
+import dev.cleanhive.tasks.TasksService;
+import dev.cleanhive.teams.Teams;
+import dev.cleanhive.teams.TeamsService;
+
+// Builds the home screen payloads. Independent lookups run concurrently; lookups that need the
+// team (members, manager, rooms of the manager's team) start as soon as the team is loaded.
+@Service
+public class BootstrapService {
+
+    @Autowired
+    @Qualifier("bootstrapExecutor")
+    private ThreadPoolTaskExecutor executor;
+
+    @Autowired
+    private TeamsService teamsService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private TasksService tasksService;
+
+    public ManagerBootstrap managerBootstrap(String managerId, Instant from, Instant to) {
+        CompletableFuture<Optional<Teams>> team = async(() -> teamsService.getTeamByManagerId(managerId));
+        CompletableFuture<List<UserProfile>> members = team.thenApplyAsync(t -> t
+                .map(value -> profiles(value.getEmployeeIds()))
+                .orElse(List.of()), executor);
+        // Rooms belong to the manager's userId, no need to wait for the team
+        CompletableFuture<List<Rooms>> rooms = async(() -> roomService.getRoomsByTeamId(managerId));
+        CompletableFuture<List<Tasks>> tasks = async(() -> tasksService.findTasksForReport(managerId, "startTime", from, to));
+
+        join(members, rooms, tasks);
+        return new ManagerBootstrap(team.join().orElse(null), members.join(), rooms.join(), tasks.join(), from, to);
+    }
+
+    public WorkerBootstrap workerBootstrap(String employeeId, Instant from, Instant to) {
+        CompletableFuture<Optional<Teams>> team = async(() -> teamsService.getTeamByEmployeeId(employeeId));
+        CompletableFuture<UserProfile> manager = team.thenApplyAsync(t -> t
+                .flatMap(value -> profiles(List.of(value.getManagerId())).stream().findFirst())
+                .orElse(null), executor);
+        CompletableFuture<List<Rooms>> rooms = team.thenApplyAsync(t -> t
+                .map(value -> roomService.getRoomsByTeamId(value.getManagerId()))
+                .orElse(List.of()), executor);
+        CompletableFuture<List<Tasks>> tasks = async(() -> tasksService.findEmployeeTasks(employeeId, from, to));
+
+        join(manager, rooms, tasks);
+        return new WorkerBootstrap(team.join().orElse(null), manager.join(), rooms.join(), tasks.join(), from, to);
+    }
+
+    private <T> CompletableFuture<T> async(Supplier<T> lookup) {
+        return CompletableFuture.supplyAsync(lookup, executor);
+    }
+
+    // Wait for all lookups, rethrowing the first failure as it was thrown
+    private static void join(CompletableFuture<?>... futures) {
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private List<UserProfile> profiles(List<String> userIds) {
+        return userService.findUsersByIds(userIds).stream().map(UserProfile::of).toList();
+    }
+}
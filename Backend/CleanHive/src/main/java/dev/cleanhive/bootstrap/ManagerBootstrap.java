@@ -0,0 +1,33 @@
+package dev.cleanhive.bootstrap;
+
+import java.time.Instant;
+import java.util.List;
+
+import dev.cleanhive.Users.UserProfile;
+import dev.cleanhive.rooms.Rooms;
+import dev.cleanhive.tasks.Tasks;
+import dev.cleanhive.teams.Teams;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Everything the manager home screen needs for its first paint
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ManagerBootstrap {
+
+    // Null if the manager has no team yet
+    private Teams team;
+
+    // Team members
+    private List<UserProfile> members;
+
+    private List<Rooms> rooms;
+
+    // The manager's tasks starting in [from, to)
+    private List<Tasks> tasks;
+
+    private Instant from;
+    private Instant to;
+}
@@ -0,0 +1,33 @@
+package dev.cleanhive.bootstrap;
+
+import java.time.Instant;
+import java.util.List;
+
+import dev.cleanhive.Users.UserProfile;
+import dev.cleanhive.rooms.Rooms;
+import dev.cleanhive.tasks.Tasks;
+import dev.cleanhive.teams.Teams;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Everything the worker homepage needs for its first paint
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class WorkerBootstrap {
+
+    // Null if the worker has not joined a team
+    private Teams team;
+
+    // For the "call manager" button
+    private UserProfile manager;
+
+    private List<Rooms> rooms;
+
+    // The worker's tasks starting in [from, to)
+    private List<Tasks> tasks;
+
+    private Instant from;
+    private Instant to;
+}
@@ -0,0 +1,157 @@
+package dev.cleanhive.config;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// AIMD concurrency limit. The limit only moves while it is binding, meaning every slot is taken or
+// callers are queued for one: it grows by one per limit's worth of responses while the smoothed
+// latency is under target, and is cut by the backoff ratio when the smoothed latency goes over
+// target or a request fails. Callers over the limit wait in a bounded queue for at most maxWait,
+// everyone beyond that is rejected at once.
+public class AdaptiveLimiter {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int maxQueue;
+    private final long maxWaitNanos;
+    private final long latencyTargetNanos;
+    private final double backoffRatio;
+
+    // Weight of the newest sample in the smoothed latency
+    private static final double SMOOTHING = 0.2;
+
+    private double limit;
+    private int inFlight;
+    private int queued;
+    private long lastDecrease;
+    private double smoothedLatencyNanos;
+
+    public AdaptiveLimiter(int initialLimit, int minLimit, int maxLimit, int maxQueue, long maxWaitMs,
+            long latencyTargetMs, double backoffRatio) {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= max");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.maxQueue = maxQueue;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        this.latencyTargetNanos = TimeUnit.MILLISECONDS.toNanos(latencyTargetMs);
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.lastDecrease = System.nanoTime() - latencyTargetNanos;
+    }
+
+    // Take a slot, false if the queue is full or no slot freed up within maxWait
+    public boolean acquire() {
+        lock.lock();
+        try {
+            if (inFlight < (int) limit) {
+                inFlight++;
+                return true;
+            }
+            if (queued >= maxQueue) {
+                return false;
+            }
+            queued++;
+            try {
+                long remaining = maxWaitNanos;
+                while (inFlight >= (int) limit) {
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    remaining = available.awaitNanos(remaining);
+                }
+                inFlight++;
+                return true;
+            } finally {
+                queued--;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Give the slot back and adjust the limit from how the request went
+    public void release(long latencyNanos, boolean failed) {
+        lock.lock();
+        try {
+            // Binding: demand reached the limit, so the limit is what decides our latency
+            boolean binding = queued > 0 || inFlight >= (int) limit;
+            inFlight--;
+            smoothedLatencyNanos = smoothedLatencyNanos == 0 ? latencyNanos
+                    : smoothedLatencyNanos + SMOOTHING * (latencyNanos - smoothedLatencyNanos);
+            long now = System.nanoTime();
+            // An unused limit says nothing about capacity, and slowness caused by another class
+            // should not shed our traffic
+            if (binding) {
+                if (failed || smoothedLatencyNanos > latencyTargetNanos) {
+                    // At most one decrease per latency window, a burst of slow responses is one signal
+                    if (now - lastDecrease >= latencyTargetNanos) {
+                        limit = Math.max(minLimit, limit * backoffRatio);
+                        lastDecrease = now;
+                    }
+                } else {
+                    limit = Math.min(maxLimit, limit + 1.0 / limit);
+                }
+            }
+            if (queued > 0) {
+                available.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getLatencyMs() {
+        lock.lock();
+        try {
+            return TimeUnit.NANOSECONDS.toMillis((long) smoothedLatencyNanos);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // How long until everyone in flight or queued now is served, a hint for rejected callers
+    public long estimatedDrainMs() {
+        lock.lock();
+        try {
+            return TimeUnit.NANOSECONDS.toMillis((long) ((inFlight + queued) / limit * smoothedLatencyNanos));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getQueued() {
+        lock.lock();
+        try {
+            return queued;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package dev.cleanhive.config;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// The admin API and the actuator endpoints (slow queries, bulkheads, archive, ...) show query
+// shapes, plans and internals of the backend. They take "Authorization: Bearer <cleanhive.admin.token>",
+// health and prometheus stay open for the orchestrator and the scraper. Without a token they are off.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class AdminAccessFilter extends OncePerRequestFilter {
+
+    private static final String BEARER = "Bearer ";
+
+    private final byte[] token;
+
+    public AdminAccessFilter(@Value("${cleanhive.admin.token:}") String token) {
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // Servlet path and path info are decoded and normalized, unlike the request URI
+        String path = request.getServletPath() + Objects.toString(request.getPathInfo(), "");
+        if (path.equals("/api/v1/admin") || path.startsWith("/api/v1/admin/")) {
+            return false;
+        }
+        if (path.equals("/actuator/health") || path.startsWith("/actuator/health/")
+                || path.equals("/actuator/prometheus")) {
+            return true;
+        }
+        return !(path.equals("/actuator") || path.startsWith("/actuator/"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (token.length == 0) {
+            response.sendError(HttpStatus.FORBIDDEN.value(), "Admin endpoints are disabled, cleanhive.admin.token is not set");
+            return;
+        }
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.startsWith(BEARER)
+                || !MessageDigest.isEqual(token, authorization.substring(BEARER.length()).getBytes(StandardCharsets.UTF_8))) {
+            response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+            response.sendError(HttpStatus.UNAUTHORIZED.value());
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+}
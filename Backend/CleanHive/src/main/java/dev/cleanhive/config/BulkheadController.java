@@ -0,0 +1,22 @@
+package dev.cleanhive.config;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/admin/bulkheads")
+public class BulkheadController {
+
+    @Autowired
+    private BulkheadFilter bulkheadFilter;
+
+    // Current concurrency limit, usage and shed requests per traffic class
+    @GetMapping
+    public ResponseEntity<List<Map<String, Object>>> getStats() {
+        return ResponseEntity.ok(bulkheadFilter.stats());
+    }
+}
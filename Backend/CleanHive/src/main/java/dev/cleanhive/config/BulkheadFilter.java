@@ -0,0 +1,153 @@
+package dev.cleanhive.config;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Splits API traffic into auth (bcrypt), storage (S3 transfers, task submissions with photos)
+// and data (Mongo reads/writes) classes, each with its own adaptive concurrency limit, so a login
+// storm or a burst of photo uploads is shed with a fast 503 instead of tying up the Tomcat
+// threads task polling needs. Limits come from BulkheadProperties.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class BulkheadFilter extends OncePerRequestFilter {
+
+    public static final String AUTH = "auth";
+    public static final String STORAGE = "storage";
+    public static final String DATA = "data";
+
+    // Method and path patterns per class, checked in order; other /api/** requests are data
+    private static final List<String[]> ROUTES = List.of(
+            new String[] { AUTH, "POST", "/api/v1/users/login" },
+            new String[] { AUTH, "POST", "/api/v1/users" },
+            new String[] { STORAGE, null, "/api/v1/file/**" },
+            new String[] { STORAGE, "GET", "/api/v1/reports/exports/*/download" },
+            new String[] { STORAGE, "POST", "/api/v1/tasks/*/submit" });
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<String, Bulkhead> bulkheads = new LinkedHashMap<>();
+
+    // Upper bound for the Retry-After estimate
+    private static final long MAX_RETRY_AFTER_SECONDS = 30;
+
+    private final boolean enabled;
+    private final long retryAfterSeconds;
+
+    public BulkheadFilter(MeterRegistry meterRegistry, BulkheadProperties properties) {
+        this.enabled = properties.isEnabled();
+        this.retryAfterSeconds = properties.getRetryAfterSeconds();
+        bulkheads.put(AUTH, new Bulkhead(AUTH, properties.getAuth().toLimiter(), meterRegistry));
+        bulkheads.put(STORAGE, new Bulkhead(STORAGE, properties.getStorage().toLimiter(), meterRegistry));
+        bulkheads.put(DATA, new Bulkhead(DATA, properties.getData().toLimiter(), meterRegistry));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !path(request).startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Bulkhead bulkhead = bulkheads.get(classify(request));
+        if (!bulkhead.limiter.acquire()) {
+            bulkhead.rejected.increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter(bulkhead.limiter)));
+            response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+            response.getWriter().write("Server is busy, try again later");
+            return;
+        }
+        bulkhead.accepted.increment();
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            chain.doFilter(request, response);
+            failed = response.getStatus() >= 500;
+        } finally {
+            bulkhead.limiter.release(System.nanoTime() - start, failed);
+        }
+    }
+
+    // Roughly when the backlog ahead of the caller is gone, so rejected clients come back spread
+    // over the time the class needs instead of all after the same second
+    private long retryAfter(AdaptiveLimiter limiter) {
+        long drainSeconds = (limiter.estimatedDrainMs() + 999) / 1000;
+        return Math.min(MAX_RETRY_AFTER_SECONDS, Math.max(retryAfterSeconds, drainSeconds));
+    }
+
+    String classify(HttpServletRequest request) {
+        String path = path(request);
+        for (String[] route : ROUTES) {
+            if ((route[1] == null || route[1].equals(request.getMethod())) && pathMatcher.match(route[2], path)) {
+                return route[0];
+            }
+        }
+        return DATA;
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    // Current limit, usage and totals per bulkhead
+    public List<Map<String, Object>> stats() {
+        return bulkheads.values().stream().map(bulkhead -> {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("bulkhead", bulkhead.name);
+            entry.put("limit", bulkhead.limiter.getLimit());
+            entry.put("inFlight", bulkhead.limiter.getInFlight());
+            entry.put("queued", bulkhead.limiter.getQueued());
+            entry.put("latencyMs", bulkhead.limiter.getLatencyMs());
+            entry.put("accepted", (long) bulkhead.accepted.count());
+            entry.put("rejected", (long) bulkhead.rejected.count());
+            return entry;
+        }).toList();
+    }
+
+    private static final class Bulkhead {
+
+        private final String name;
+        private final AdaptiveLimiter limiter;
+        private final Counter accepted;
+        private final Counter rejected;
+
+        private Bulkhead(String name, AdaptiveLimiter limiter, MeterRegistry meterRegistry) {
+            this.name = name;
+            this.limiter = limiter;
+            accepted = counter(meterRegistry, name, "accepted");
+            rejected = counter(meterRegistry, name, "rejected");
+            Gauge.builder("cleanhive.bulkhead.limit", limiter, AdaptiveLimiter::getLimit)
+                    .tag("bulkhead", name).register(meterRegistry);
+            Gauge.builder("cleanhive.bulkhead.in.flight", limiter, AdaptiveLimiter::getInFlight)
+                    .tag("bulkhead", name).register(meterRegistry);
+            Gauge.builder("cleanhive.bulkhead.queued", limiter, AdaptiveLimiter::getQueued)
+                    .tag("bulkhead", name).register(meterRegistry);
+        }
+
+        private static Counter counter(MeterRegistry meterRegistry, String name, String result) {
+            return Counter.builder("cleanhive.bulkhead.requests")
+                    .tag("bulkhead", name)
+                    .tag("result", result)
+                    .register(meterRegistry);
+        }
+    }
+}
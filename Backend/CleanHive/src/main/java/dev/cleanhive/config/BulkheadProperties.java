@@ -0,0 +1,59 @@
+package dev.cleanhive.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// cleanhive.bulkhead.*, the only place the bulkhead defaults live; application.yml overrides them.
+// A queued request holds a Tomcat thread like a running one. The max-limit + max-queue of all
+// classes add up to 190, under Tomcat's default of 200 threads, so a full bulkhead never leaves
+// actuator or another class without a thread.
+@Component
+@ConfigurationProperties(prefix = "cleanhive.bulkhead")
+@Data
+public class BulkheadProperties {
+
+    private boolean enabled = true;
+
+    // Minimum Retry-After on a 503, raised to the estimated time to drain the backlog (max 30)
+    private int retryAfterSeconds = 1;
+
+    // bcrypt is CPU bound, so more parallel logins do not help. A login that cannot start within
+    // about one hash time gets a 503 at once, Retry-After spreads the phones of a shift start
+    // over the time the backlog needs
+    private Limits auth = new Limits(16, 8, 16, 16, 200, 500);
+
+    private Limits storage = new Limits(16, 2, 32, 16, 500, 3000);
+
+    private Limits data = new Limits(64, 8, 100, 10, 100, 250);
+
+    // AIMD limits of one class, see AdaptiveLimiter
+    @Data
+    @NoArgsConstructor
+    public static class Limits {
+        private int initialLimit;
+        private int minLimit;
+        private int maxLimit;
+        private int maxQueue;
+        private long maxWaitMs;
+        private long latencyTargetMs;
+        private double backoffRatio = 0.9;
+
+        public Limits(int initialLimit, int minLimit, int maxLimit, int maxQueue, long maxWaitMs,
+                long latencyTargetMs) {
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+            this.maxQueue = maxQueue;
+            this.maxWaitMs = maxWaitMs;
+            this.latencyTargetMs = latencyTargetMs;
+        }
+
+        AdaptiveLimiter toLimiter() {
+            return new AdaptiveLimiter(initialLimit, minLimit, maxLimit, maxQueue, maxWaitMs, latencyTargetMs,
+                    backoffRatio);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package dev.cleanhive.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/admin/coalescing")
+public class CoalescingController {
+
+    @Autowired
+    private RequestCoalescingFilter requestCoalescingFilter;
+
+    // How many reads were served from a request that was already in flight
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("inFlight", requestCoalescingFilter.inFlight());
+        stats.put("paths", requestCoalescingFilter.stats());
+        return ResponseEntity.ok(stats);
+    }
+}
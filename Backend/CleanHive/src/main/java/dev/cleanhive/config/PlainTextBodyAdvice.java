@@ -0,0 +1,37 @@
+package dev.cleanhive.config;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+// String bodies (the error messages of the controllers) are written as raw text. When the client
+// asked for CBOR or Smile the negotiated type would still be that, so label them text/plain
+@ControllerAdvice
+public class PlainTextBodyAdvice implements ResponseBodyAdvice<Object> {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+    private static final MediaType TEXT_PLAIN_UTF8 = new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8);
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return StringHttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+            ServerHttpResponse response) {
+        if (selectedContentType.isCompatibleWith(MediaType.APPLICATION_CBOR)
+                || selectedContentType.isCompatibleWith(SMILE)) {
+            response.getHeaders().setContentType(TEXT_PLAIN_UTF8);
+        }
+        return body;
+    }
+}
@@ -0,0 +1,271 @@
+package dev.cleanhive.config;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+// Single-flight for idempotent GETs: while one request for a key is running, identical requests
+// wait for it and get a copy of its status, headers and body instead of querying Mongo again.
+// Ordered ahead of BulkheadFilter, so waiting followers do not take a concurrency slot.
+// Only anonymous GETs are coalesced, requests carrying credentials always run on their own.
+// A caller whose own write finished after the leader started runs the GET itself, so nobody is
+// handed a response that predates their write. Callers are told apart by the client address
+// the container resolved, which takes X-Forwarded-For from internal proxies only
+// (server.forward-headers-strategy), so clients behind one address simply coalesce less.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@Slf4j
+public class RequestCoalescingFilter extends OncePerRequestFilter {
+
+    // Headers the response may depend on, part of the key next to the URL
+    private static final String[] KEY_HEADERS = { HttpHeaders.ACCEPT, HttpHeaders.ORIGIN };
+
+    // Writes older than this are forgotten, leaders running longer than this are never joined
+    private static final long WRITE_MEMORY_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<String, Flight> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastWrite = new ConcurrentHashMap<>();
+    private final Map<String, PathStats> stats = new LinkedHashMap<>();
+
+    private final boolean enabled;
+    private final long waitTimeoutMs;
+
+    public RequestCoalescingFilter(MeterRegistry meterRegistry,
+            @Value("${cleanhive.coalescing.enabled:true}") boolean enabled,
+            @Value("${cleanhive.coalescing.paths:/api/v1/teams/by-employee/*,/api/v1/teams/*,/api/v1/rooms,/api/v1/tasks}") List<String> paths,
+            @Value("${cleanhive.coalescing.wait-timeout-ms:5000}") long waitTimeoutMs) {
+        this.enabled = enabled;
+        this.waitTimeoutMs = waitTimeoutMs;
+        for (String path : paths) {
+            stats.put(path, new PathStats(meterRegistry, path));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled) {
+            return true;
+        }
+        String method = request.getMethod();
+        if ("GET".equals(method)) {
+            return match(request) == null || authenticated(request);
+        }
+        // Writes pass through only to be remembered per caller
+        return "HEAD".equals(method) || "OPTIONS".equals(method);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!"GET".equals(request.getMethod())) {
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                // Taken once the write is done, a leader started before this may not have seen it
+                lastWrite.put(caller(request), System.nanoTime());
+            }
+            return;
+        }
+
+        PathStats pathStats = stats.get(match(request));
+        String key = key(request);
+
+        Flight own = new Flight(System.nanoTime(), new CompletableFuture<>());
+        Flight leader = inFlight.putIfAbsent(key, own);
+        if (leader == null) {
+            pathStats.leaders.increment();
+            lead(request, response, chain, key, own);
+            return;
+        }
+
+        CapturedResponse captured = wroteSince(caller(request), leader.startedAt()) ? null : await(leader.response());
+        if (captured == null) {
+            // The leader failed, timed out, produced a response we do not share or may predate
+            // this caller's last write, run on our own
+            pathStats.fallbacks.increment();
+            chain.doFilter(request, response);
+            return;
+        }
+        pathStats.coalesced.increment();
+        captured.writeTo(response);
+    }
+
+    private void lead(HttpServletRequest request, HttpServletResponse response, FilterChain chain, String key,
+            Flight own) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            chain.doFilter(request, wrapper);
+            int status = wrapper.getStatus();
+            own.response().complete(status >= 200 && status < 300 ? CapturedResponse.of(wrapper) : null);
+        } catch (IOException | ServletException | RuntimeException e) {
+            own.response().complete(null);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    private CapturedResponse await(CompletableFuture<CapturedResponse> leader) {
+        try {
+            return leader.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private boolean wroteSince(String caller, long startedAt) {
+        if (System.nanoTime() - startedAt > WRITE_MEMORY_NANOS) {
+            // Older than the writes we remember, cannot tell
+            return true;
+        }
+        Long wroteAt = lastWrite.get(caller);
+        return wroteAt != null && wroteAt - startedAt >= 0;
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void forgetOldWrites() {
+        long now = System.nanoTime();
+        lastWrite.values().removeIf(wroteAt -> now - wroteAt > WRITE_MEMORY_NANOS);
+    }
+
+    private static boolean authenticated(HttpServletRequest request) {
+        return request.getUserPrincipal() != null || request.getHeader(HttpHeaders.AUTHORIZATION) != null;
+    }
+
+    private static String caller(HttpServletRequest request) {
+        return request.getRemoteAddr();
+    }
+
+    private String match(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (String pattern : stats.keySet()) {
+            if (pathMatcher.match(pattern, path)) {
+                return pattern;
+            }
+        }
+        return null;
+    }
+
+    private static String key(HttpServletRequest request) {
+        StringBuilder key = new StringBuilder(request.getMethod()).append(' ').append(request.getRequestURI());
+        if (request.getQueryString() != null) {
+            key.append('?').append(request.getQueryString());
+        }
+        for (String header : KEY_HEADERS) {
+            String value = request.getHeader(header);
+            key.append('\n').append(value == null ? "" : value);
+        }
+        return key.toString();
+    }
+
+    // Requests per configured path and how many of them were served from another request
+    public List<Map<String, Object>> stats() {
+        List<Map<String, Object>> result = new ArrayList<>();
+        stats.forEach((path, pathStats) -> {
+            double leaders = pathStats.leaders.count();
+            double coalesced = pathStats.coalesced.count();
+            double fallbacks = pathStats.fallbacks.count();
+            double total = leaders + coalesced + fallbacks;
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("path", path);
+            entry.put("requests", (long) total);
+            entry.put("executed", (long) (leaders + fallbacks));
+            entry.put("coalesced", (long) coalesced);
+            entry.put("fallbacks", (long) fallbacks);
+            entry.put("absorbedRatio", total == 0 ? 0.0 : coalesced / total);
+            result.add(entry);
+        });
+        return result;
+    }
+
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    // A running leader and when it started
+    private record Flight(long startedAt, CompletableFuture<CapturedResponse> response) {
+    }
+
+    private static final class PathStats {
+
+        private final Counter leaders;
+        private final Counter coalesced;
+        private final Counter fallbacks;
+
+        private PathStats(MeterRegistry meterRegistry, String path) {
+            leaders = counter(meterRegistry, path, "executed");
+            coalesced = counter(meterRegistry, path, "coalesced");
+            fallbacks = counter(meterRegistry, path, "fallback");
+        }
+
+        private static Counter counter(MeterRegistry meterRegistry, String path, String result) {
+            return Counter.builder("cleanhive.coalescing.requests")
+                    .description("GET requests on coalesced paths by how they were served")
+                    .tag("path", path)
+                    .tag("result", result)
+                    .register(meterRegistry);
+        }
+    }
+
+    // Status, headers and body of the leader's response
+    private record CapturedResponse(int status, String contentType, Map<String, Collection<String>> headers,
+            byte[] body) {
+
+        static CapturedResponse of(ContentCachingResponseWrapper wrapper) {
+            Map<String, Collection<String>> headers = new LinkedHashMap<>();
+            for (String name : wrapper.getHeaderNames()) {
+                if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)
+                        && !HttpHeaders.TRANSFER_ENCODING.equalsIgnoreCase(name)) {
+                    headers.put(name, List.copyOf(wrapper.getHeaders(name)));
+                }
+            }
+            return new CapturedResponse(wrapper.getStatus(), wrapper.getContentType(), headers,
+                    wrapper.getContentAsByteArray());
+        }
+
+        void writeTo(HttpServletResponse response) throws IOException {
+            response.setStatus(status);
+            headers.forEach((name, values) -> {
+                for (String value : values) {
+                    response.addHeader(name, value);
+                }
+            });
+            if (contentType != null) {
+                response.setContentType(contentType);
+            }
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+    }
+}
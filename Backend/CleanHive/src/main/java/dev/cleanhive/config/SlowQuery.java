@@ -0,0 +1,47 @@
+package dev.cleanhive.config;
+
+import java.time.Instant;
+
+import lombok.Getter;
+
+// One Mongo command that took longer than the slow query threshold
+@Getter
+public class SlowQuery {
+
+    private final Instant time;
+    private final String database;
+    private final String collection;
+    private final String command;
+
+    // Filter with all values replaced by "?", the same for every call of a derived query
+    private final String shape;
+
+    private final long durationMs;
+    private final Long docsReturned;
+
+    // Filled in asynchronously when the command was picked for an explain()
+    private volatile Long docsExamined;
+    private volatile Long keysExamined;
+    private volatile String plan;
+
+    public SlowQuery(Instant time, String database, String collection, String command, String shape,
+            long durationMs, Long docsReturned) {
+        this.time = time;
+        this.database = database;
+        this.collection = collection;
+        this.command = command;
+        this.shape = shape;
+        this.durationMs = durationMs;
+        this.docsReturned = docsReturned;
+    }
+
+    void explained(Long docsExamined, Long keysExamined, String plan) {
+        this.docsExamined = docsExamined;
+        this.keysExamined = keysExamined;
+        this.plan = plan;
+    }
+
+    public String getKey() {
+        return command + " " + collection + " " + shape;
+    }
+}
@@ -0,0 +1,15 @@
+package dev.cleanhive.config;
+
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SlowQueryConfig {
+
+    // Register the slow query listener on the Mongo client Spring Boot creates
+    @Bean
+    public MongoClientSettingsBuilderCustomizer slowQueryListenerCustomizer(SlowQueryListener slowQueryListener) {
+        return settings -> settings.addCommandListener(slowQueryListener);
+    }
+}
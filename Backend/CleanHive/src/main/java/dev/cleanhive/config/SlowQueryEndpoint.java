@@ -0,0 +1,40 @@
+package dev.cleanhive.config;
+
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+// /actuator/slowqueries, guarded by AdminAccessFilter like every actuator endpoint except health
+// and prometheus
+@Component
+@Endpoint(id = "slowqueries")
+public class SlowQueryEndpoint {
+
+    private final SlowQueryLog slowQueryLog;
+
+    public SlowQueryEndpoint(SlowQueryLog slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    // Slow queries grouped by shape, the most expensive first. A negative limit returns nothing.
+    @ReadOperation
+    public List<SlowQueryLog.ShapeSummary> worstOffenders(@Nullable Integer limit) {
+        return slowQueryLog.worstOffenders(Math.max(limit == null ? 20 : limit, 0));
+    }
+
+    // /actuator/slowqueries/recent: raw entries, newest first
+    @ReadOperation
+    public List<SlowQuery> recent(@Selector String view) {
+        return "recent".equals(view) ? slowQueryLog.recent() : null;
+    }
+
+    @DeleteOperation
+    public void clear() {
+        slowQueryLog.clear();
+    }
+}
@@ -0,0 +1,288 @@
+package dev.cleanhive.config;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.BsonArray;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.BsonReader;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.io.BasicOutputBuffer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+// Records Mongo commands slower than the threshold into the SlowQueryLog and runs a
+// sampled explain() for them in the background to see how many documents were examined
+@Component
+@Slf4j
+public class SlowQueryListener implements CommandListener {
+
+    // Commands that carry a filter we can normalize and explain
+    private static final Set<String> EXPLAINABLE = Set.of(
+            "find", "aggregate", "count", "distinct", "update", "delete", "findAndModify");
+
+    // Session and cluster fields the explain command does not accept
+    private static final Set<String> NOT_EXPLAINABLE_FIELDS = Set.of(
+            "lsid", "txnNumber", "autocommit", "startTransaction", "apiVersion", "apiStrict",
+            "apiDeprecationErrors", "readConcern", "writeConcern");
+
+    // Plan fields holding query values, replaced by their shape in the stored plan
+    private static final Set<String> PLAN_VALUE_FIELDS = Set.of("filter", "parsedQuery", "indexBounds", "transformBy");
+
+    // Plan fields made of field names and index directions only, kept as they are
+    private static final Set<String> PLAN_NAME_FIELDS = Set.of("keyPattern", "multiKeyPaths");
+
+    // The only other strings a stored plan keeps, everything else becomes "?"
+    private static final Set<String> PLAN_STRINGS = Set.of("stage", "indexName", "direction");
+
+    // Shapes remembered for the explain interval; least recently used ones fall out past this
+    private static final int MAX_EXPLAINED_SHAPES = 1000;
+
+    private final Map<Integer, RawBsonDocument> inFlight = new ConcurrentHashMap<>();
+
+    // Last explain per shape, so one slow screen does not explain the same query over and over
+    private final Map<String, Long> lastExplained = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            return size() > MAX_EXPLAINED_SHAPES;
+        }
+    };
+
+    private final ThreadPoolExecutor explainExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(16), runnable -> {
+                Thread thread = new Thread(runnable, "slow-query-explain");
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.DiscardPolicy());
+
+    private final SlowQueryLog slowQueryLog;
+    private final ObjectProvider<MongoClient> mongoClient;
+    private final boolean enabled;
+    private final long thresholdMs;
+    private final double explainSampleRate;
+    private final long explainIntervalMs;
+
+    public SlowQueryListener(SlowQueryLog slowQueryLog, ObjectProvider<MongoClient> mongoClient,
+            @Value("${cleanhive.mongo.slow-query.enabled:true}") boolean enabled,
+            @Value("${cleanhive.mongo.slow-query.threshold-ms:100}") long thresholdMs,
+            @Value("${cleanhive.mongo.slow-query.explain-sample-rate:0.1}") double explainSampleRate,
+            @Value("${cleanhive.mongo.slow-query.explain-interval-ms:60000}") long explainIntervalMs) {
+        this.slowQueryLog = slowQueryLog;
+        this.mongoClient = mongoClient;
+        this.enabled = enabled;
+        this.thresholdMs = thresholdMs;
+        this.explainSampleRate = explainSampleRate;
+        this.explainIntervalMs = explainIntervalMs;
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        String commandName = event.getCommandName();
+        if (!enabled || !EXPLAINABLE.contains(commandName)) {
+            return;
+        }
+        // The command document is backed by the driver's buffer and only valid during this
+        // callback. Keep a raw byte copy, the shape and explain command are only built for the
+        // few commands that turn out to be slow. The copy holds the query values, so it is only
+        // kept until the command ends or its explain ran; the log gets the shape and a redacted plan.
+        inFlight.put(event.getRequestId(), rawCopy(event.getCommand()));
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        RawBsonDocument command = inFlight.remove(event.getRequestId());
+        if (command == null) {
+            return;
+        }
+        long durationMs = event.getElapsedTime(TimeUnit.MILLISECONDS);
+        if (durationMs < thresholdMs) {
+            return;
+        }
+        String commandName = event.getCommandName();
+        BsonValue collection = command.get(commandName);
+        SlowQuery entry = new SlowQuery(Instant.now(), event.getDatabaseName(),
+                collection != null && collection.isString() ? collection.asString().getValue() : "",
+                commandName, shape(filterOf(commandName, command)), durationMs,
+                docsReturned(event.getResponse()));
+        slowQueryLog.add(entry);
+        maybeExplain(entry, command);
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        inFlight.remove(event.getRequestId());
+    }
+
+    private void maybeExplain(SlowQuery entry, BsonDocument command) {
+        if (ThreadLocalRandom.current().nextDouble() >= explainSampleRate) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        synchronized (lastExplained) {
+            Long last = lastExplained.get(entry.getKey());
+            if (last != null && now - last < explainIntervalMs) {
+                return;
+            }
+            lastExplained.put(entry.getKey(), now);
+        }
+        explainExecutor.execute(() -> explain(entry, explainCommand(entry.getCommand(), command)));
+    }
+
+    private void explain(SlowQuery entry, BsonDocument command) {
+        try {
+            Document result = mongoClient.getObject().getDatabase(entry.getDatabase())
+                    .runCommand(new Document("explain", command).append("verbosity", "executionStats"));
+            Document stats = result.get("executionStats", Document.class);
+            Document planner = result.get("queryPlanner", Document.class);
+            Long docsExamined = stats == null ? null : toLong(stats.get("totalDocsExamined"));
+            Long keysExamined = stats == null ? null : toLong(stats.get("totalKeysExamined"));
+            Object plan = planner == null ? result : planner.get("winningPlan");
+            entry.explained(docsExamined, keysExamined, plan instanceof Document doc ? redactPlan(doc) : null);
+        } catch (RuntimeException e) {
+            log.debug("Could not explain slow query {}", entry.getKey(), e);
+        }
+    }
+
+    // The part of the command that selects documents
+    private static BsonDocument filterOf(String commandName, BsonDocument command) {
+        BsonValue filter = switch (commandName) {
+            case "find" -> command.get("filter");
+            case "count", "distinct", "findAndModify" -> command.get("query");
+            case "update", "delete" -> firstStatement(command, commandName + "s").get("q");
+            case "aggregate" -> firstMatch(command.getArray("pipeline", new BsonArray()));
+            default -> null;
+        };
+        return filter != null && filter.isDocument() ? filter.asDocument() : new BsonDocument();
+    }
+
+    private static BsonDocument firstStatement(BsonDocument command, String field) {
+        BsonArray statements = command.getArray(field, new BsonArray());
+        return statements.isEmpty() || !statements.get(0).isDocument() ? new BsonDocument()
+                : statements.get(0).asDocument();
+    }
+
+    private static BsonValue firstMatch(BsonArray pipeline) {
+        for (BsonValue stage : pipeline) {
+            if (stage.isDocument() && stage.asDocument().containsKey("$match")) {
+                return stage.asDocument().get("$match");
+            }
+        }
+        return null;
+    }
+
+    // One byte copy of the command, no per-field objects
+    private static RawBsonDocument rawCopy(BsonDocument command) {
+        BasicOutputBuffer buffer = new BasicOutputBuffer(512);
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer); BsonReader reader = command.asBsonReader()) {
+            writer.pipe(reader);
+        }
+        return new RawBsonDocument(buffer.getInternalBuffer(), 0, buffer.getPosition());
+    }
+
+    // The command without session fields; bulk writes are cut down to their first statement
+    private static BsonDocument explainCommand(String commandName, BsonDocument command) {
+        BsonDocument copy = new BsonDocument();
+        for (Map.Entry<String, BsonValue> field : command.entrySet()) {
+            String name = field.getKey();
+            if (name.startsWith("$") || NOT_EXPLAINABLE_FIELDS.contains(name)) {
+                continue;
+            }
+            if (name.equals(commandName + "s") && field.getValue().isArray()) {
+                copy.put(name, new BsonArray(List.of(firstStatement(command, name))));
+            } else {
+                copy.put(name, field.getValue());
+            }
+        }
+        return copy;
+    }
+
+    // {managerId: ?, startTime: {$gte: ?, $lt: ?}} for every call of the same derived query
+    static String shape(BsonValue value) {
+        if (value.isDocument()) {
+            StringBuilder shape = new StringBuilder("{");
+            for (Map.Entry<String, BsonValue> field : value.asDocument().entrySet()) {
+                if (shape.length() > 1) {
+                    shape.append(", ");
+                }
+                shape.append(field.getKey()).append(": ").append(shape(field.getValue()));
+            }
+            return shape.append('}').toString();
+        }
+        if (value.isArray()) {
+            BsonArray array = value.asArray();
+            // $and / $or hold sub filters, anything else ($in, $nin, ...) is a list of values
+            return array.isEmpty() || !array.get(0).isDocument() ? "[?]" : "[" + shape(array.get(0)) + ", ...]";
+        }
+        return "?";
+    }
+
+    // The winning plan with its stages and indexes, but no value of the query: filters and index
+    // bounds are cut down to their shape, any other string to "?"
+    static String redactPlan(Document plan) {
+        return redact("", plan.toBsonDocument()).asDocument().toJson();
+    }
+
+    private static BsonValue redact(String field, BsonValue value) {
+        if (PLAN_VALUE_FIELDS.contains(field)) {
+            return new BsonString(shape(value));
+        }
+        if (PLAN_NAME_FIELDS.contains(field)) {
+            return value;
+        }
+        if (value.isDocument()) {
+            BsonDocument redacted = new BsonDocument();
+            value.asDocument().forEach((name, child) -> redacted.put(name, redact(name, child)));
+            return redacted;
+        }
+        if (value.isArray()) {
+            BsonArray redacted = new BsonArray();
+            value.asArray().forEach(child -> redacted.add(redact(field, child)));
+            return redacted;
+        }
+        if (value.isString() && PLAN_STRINGS.contains(field)) {
+            return value;
+        }
+        return value.isNumber() || value.isBoolean() || value.isNull() ? value : new BsonString("?");
+    }
+
+    private static Long docsReturned(BsonDocument response) {
+        BsonValue cursor = response.get("cursor");
+        if (cursor != null && cursor.isDocument()) {
+            BsonValue batch = cursor.asDocument().get("firstBatch");
+            return batch != null && batch.isArray() ? (long) batch.asArray().size() : null;
+        }
+        if (response.containsKey("values")) {
+            return (long) response.getArray("values").size();
+        }
+        if (response.containsKey("value")) {
+            return response.get("value").isNull() ? 0L : 1L;
+        }
+        BsonValue n = response.get("n");
+        return n != null && n.isNumber() ? n.asNumber().longValue() : null;
+    }
+
+    private static Long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : null;
+    }
+}
@@ -0,0 +1,98 @@
+package dev.cleanhive.config;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// Bounded ring buffer of the most recent slow Mongo commands
+@Component
+public class SlowQueryLog {
+
+    private final SlowQuery[] entries;
+
+    private long written;
+
+    public SlowQueryLog(@Value("${cleanhive.mongo.slow-query.capacity:1000}") int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("cleanhive.mongo.slow-query.capacity must be at least 1");
+        }
+        this.entries = new SlowQuery[capacity];
+    }
+
+    public synchronized void add(SlowQuery entry) {
+        entries[(int) (written++ % entries.length)] = entry;
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(entries, null);
+        written = 0;
+    }
+
+    // Newest first
+    public synchronized List<SlowQuery> recent() {
+        List<SlowQuery> recent = new ArrayList<>();
+        for (long i = written - 1; i >= 0 && i >= written - entries.length; i--) {
+            recent.add(entries[(int) (i % entries.length)]);
+        }
+        return recent;
+    }
+
+    // Entries grouped by query shape, the shapes costing the most total time first
+    public List<ShapeSummary> worstOffenders(int limit) {
+        Map<String, ShapeSummary> byShape = new LinkedHashMap<>();
+        for (SlowQuery entry : recent()) {
+            byShape.computeIfAbsent(entry.getKey(), key -> new ShapeSummary(entry.getCollection(),
+                    entry.getCommand(), entry.getShape(), 0, 0, 0, 0, null, null, null, entry.getTime(), null))
+                    .add(entry);
+        }
+        return byShape.values().stream()
+                .sorted(Comparator.comparingLong(ShapeSummary::getTotalMs).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class ShapeSummary {
+        private String collection;
+        private String command;
+        private String shape;
+        private int count;
+        private long totalMs;
+        private long maxMs;
+        private long avgMs;
+        private Long docsReturned;
+        private Long docsExamined;
+        private Long keysExamined;
+        private Instant lastSeen;
+        private String plan;
+
+        // Entries arrive newest first, so the first explained one is the latest plan
+        private void add(SlowQuery entry) {
+            count++;
+            totalMs += entry.getDurationMs();
+            maxMs = Math.max(maxMs, entry.getDurationMs());
+            avgMs = totalMs / count;
+            if (docsReturned == null) {
+                docsReturned = entry.getDocsReturned();
+            }
+            if (plan == null && entry.getPlan() != null) {
+                plan = entry.getPlan();
+                docsExamined = entry.getDocsExamined();
+                keysExamined = entry.getKeysExamined();
+                docsReturned = Objects.requireNonNullElse(entry.getDocsReturned(), docsReturned);
+            }
+        }
+    }
+}
@@ -8,6 +8,7 @@ import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 
 @Configuration
 public class StorageConfig {
@@ -20,7 +21,9 @@ public class StorageConfig {
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    // Not needed to serve most requests, build it on first use instead of at startup
     @Bean
+    @Lazy
     public AmazonS3 s3Client() {
         AWSCredentials credentials = new BasicAWSCredentials(accessKey, accessSecret);
         return AmazonS3ClientBuilder.standard()
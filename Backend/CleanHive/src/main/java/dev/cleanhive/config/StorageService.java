@@ -1,19 +1,34 @@
 package dev.cleanhive.config;
 
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectInputStream;
+import com.amazonaws.services.s3.model.UploadPartRequest;
 import com.amazonaws.util.IOUtils;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
-import java.io.FileOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
 
 @Service
 @Slf4j
@@ -22,44 +37,195 @@ public class StorageService {
     @Value("${application.bucket.name}")
     private String bucketName;
 
+    // Proxy, the client is only built on the first transfer
     @Autowired
+    @Lazy
     private AmazonS3 s3Client;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Parts of a streamed upload, S3 wants at least 5MB for every part but the last
+    @Value("${cleanhive.storage.upload-part-size:5MB}")
+    private DataSize uploadPartSize;
+
+    // Writes the content of a streamed upload
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
     public String uploadFile(MultipartFile file) {
-        File fileObj = convertMultiPartFileToFile(file);
         String fileName = System.currentTimeMillis() + "_" + file.getOriginalFilename();
-        s3Client.putObject(new PutObjectRequest(bucketName, fileName, fileObj));
-        fileObj.delete();
+        uploadFile(file, fileName);
         return "File uploaded : " + fileName;
     }
 
+    // Stream a multipart file to the bucket under the given key. Nothing is written to the
+    // working directory, so concurrent uploads with the same original filename do not collide.
+    public void uploadFile(MultipartFile file, String key) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(file.getSize());
+        if (file.getContentType() != null) {
+            metadata.setContentType(file.getContentType());
+        }
+        try (InputStream in = file.getInputStream()) {
+            s3Client.putObject(new PutObjectRequest(bucketName, key, in, metadata));
+            outcome = "success";
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + file.getOriginalFilename(), e);
+        } finally {
+            sample.stop(timer("upload", outcome));
+        }
+        recordSize("upload", file.getSize());
+    }
+
 
     public byte[] downloadFile(String fileName) {
-        S3Object s3Object = s3Client.getObject(bucketName, fileName);
-        S3ObjectInputStream inputStream = s3Object.getObjectContent();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
         try {
+            S3Object s3Object = s3Client.getObject(bucketName, fileName);
+            S3ObjectInputStream inputStream = s3Object.getObjectContent();
             byte[] content = IOUtils.toByteArray(inputStream);
+            outcome = "success";
+            recordSize("download", content.length);
             return content;
         } catch (IOException e) {
             e.printStackTrace();
+        } finally {
+            sample.stop(timer("download", outcome));
         }
         return null;
     }
 
 
+    // Upload content of unknown length under the given key, e.g. a generated report, as a
+    // multipart upload. Only the part being filled is held in memory and nothing touches the
+    // disk. When the writer fails the upload is aborted, so no partial object is left behind.
+    public long uploadStream(String key, String contentType, ContentWriter writer) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        String uploadId = s3Client.initiateMultipartUpload(
+                new InitiateMultipartUploadRequest(bucketName, key, metadata)).getUploadId();
+        try {
+            PartOutputStream out = new PartOutputStream(key, uploadId, (int) uploadPartSize.toBytes());
+            writer.writeTo(out);
+            out.uploadPart();
+            s3Client.completeMultipartUpload(new CompleteMultipartUploadRequest(bucketName, key, uploadId, out.parts));
+            outcome = "success";
+            recordSize("upload", out.size);
+            return out.size;
+        } finally {
+            if (!"success".equals(outcome)) {
+                abort(key, uploadId);
+            }
+            sample.stop(timer("upload", outcome));
+        }
+    }
+
+    private void abort(String key, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, key, uploadId));
+        } catch (RuntimeException e) {
+            log.warn("Could not abort the upload of {}: {}", key, e.getMessage());
+        }
+    }
+
+    // Stream an object instead of loading it into memory; the caller closes the stream.
+    // The timer covers opening the object, the transfer itself happens while the caller reads.
+    public InputStream openFile(String key) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            S3Object s3Object = s3Client.getObject(bucketName, key);
+            outcome = "success";
+            recordSize("download", s3Object.getObjectMetadata().getContentLength());
+            return s3Object.getObjectContent();
+        } finally {
+            sample.stop(timer("open", outcome));
+        }
+    }
+
+
     public String deleteFile(String fileName) {
         s3Client.deleteObject(bucketName, fileName);
         return fileName + " removed ...";
     }
 
 
-    private File convertMultiPartFileToFile(MultipartFile file) {
-        File convertedFile = new File(file.getOriginalFilename());
-        try (FileOutputStream fos = new FileOutputStream(convertedFile)) {
-            fos.write(file.getBytes());
-        } catch (IOException e) {
-            log.error("Error converting multipartFile to file", e);
+    // Failed transfers are recorded too, tagged outcome=error
+    private Timer timer(String operation, String outcome) {
+        return meterRegistry.timer("cleanhive.storage", "operation", operation, "outcome", outcome);
+    }
+
+    // Object sizes, next to the cleanhive.storage timer
+    private void recordSize(String operation, long bytes) {
+        DistributionSummary.builder("cleanhive.storage.size")
+                .baseUnit("bytes")
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .record(bytes);
+    }
+
+    // Buffers one part and uploads it when full. close() does nothing, the upload is
+    // completed by uploadStream once the writer returns.
+    private class PartOutputStream extends OutputStream {
+        private final String key;
+        private final String uploadId;
+        private final byte[] buffer;
+        private final List<PartETag> parts = new ArrayList<>();
+        private int filled;
+        private long size;
+
+        private PartOutputStream(String key, String uploadId, int partSize) {
+            this.key = key;
+            this.uploadId = uploadId;
+            this.buffer = new byte[partSize];
+        }
+
+        @Override
+        public void write(int b) {
+            if (filled == buffer.length) {
+                uploadPart();
+            }
+            buffer[filled++] = (byte) b;
+            size++;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            while (length > 0) {
+                if (filled == buffer.length) {
+                    uploadPart();
+                }
+                int chunk = Math.min(length, buffer.length - filled);
+                System.arraycopy(bytes, offset, buffer, filled, chunk);
+                filled += chunk;
+                size += chunk;
+                offset += chunk;
+                length -= chunk;
+            }
+        }
+
+        // Also uploads an empty last part when nothing was written, S3 needs at least one
+        private void uploadPart() {
+            if (filled == 0 && !parts.isEmpty()) {
+                return;
+            }
+            UploadPartRequest request = new UploadPartRequest()
+                    .withBucketName(bucketName)
+                    .withKey(key)
+                    .withUploadId(uploadId)
+                    .withPartNumber(parts.size() + 1)
+                    .withInputStream(new ByteArrayInputStream(buffer, 0, filled))
+                    .withPartSize(filled);
+            parts.add(s3Client.uploadPart(request).getPartETag());
+            filled = 0;
         }
-        return convertedFile;
     }
 }
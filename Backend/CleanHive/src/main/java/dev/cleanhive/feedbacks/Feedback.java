@@ -2,11 +2,13 @@ package dev.cleanhive.feedbacks;
 
 import org.bson.types.ObjectId;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import java.time.Instant;
 import java.util.List;
 
 @Document(collection = "feedbacks")
@@ -34,4 +36,9 @@ public class Feedback {
 
     // Submission time
     private String submissionTime;
+
+    // submissionTime parsed, what reports and archival query on. Set by FeedbackService on save,
+    // null when submissionTime is not an ISO-8601 instant
+    @Indexed
+    private Instant submittedAt;
 }
@@ -1,9 +1,11 @@
 package dev.cleanhive.feedbacks;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -26,6 +28,17 @@ public class FeedbackController {
         return new ResponseEntity<>(feedbacks, HttpStatus.OK);
     }
 
+    // Endpoint to get feedbacks submitted in [from, to), optionally for one team's rooms
+    @GetMapping("/report")
+    public ResponseEntity<?> getFeedbacksForReport(@RequestParam(required = false) String teamId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to) {
+        if (!from.isBefore(to)) {
+            return new ResponseEntity<>("from must be before to", HttpStatus.BAD_REQUEST);
+        }
+        return new ResponseEntity<>(feedbackService.findFeedbacksForReport(teamId, from, to), HttpStatus.OK);
+    }
+
     // Endpoint to update feedback for a given roomId
     @PostMapping
     public ResponseEntity<?> createFeedback(@RequestBody Feedback feedback) {
@@ -1,19 +1,64 @@
 package dev.cleanhive.feedbacks;
 
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
+import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
+import dev.cleanhive.archive.ArchiveService;
+import dev.cleanhive.rooms.RoomRepository;
+import dev.cleanhive.rooms.Rooms;
+import lombok.extern.slf4j.Slf4j;
+
 @Service
+@Slf4j
 public class FeedbackService {
 
+    private static final int BACKFILL_BATCH_SIZE = 500;
+
     private final FeedbackRepository feedbackRepository;
+    private final RoomRepository roomRepository;
+    private final MongoTemplate mongoTemplate;
+    private final ArchiveService archiveService;
 
     @Autowired
-    public FeedbackService(FeedbackRepository feedbackRepository) {
+    public FeedbackService(FeedbackRepository feedbackRepository, RoomRepository roomRepository,
+            MongoTemplate mongoTemplate, ArchiveService archiveService) {
         this.feedbackRepository = feedbackRepository;
+        this.roomRepository = roomRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.archiveService = archiveService;
+    }
+
+    // submissionTime is ISO-8601 text whose fraction and offset differ between clients, so it
+    // does not sort as text. Null when it is missing or not an instant.
+    public static Instant submittedAt(String submissionTime) {
+        if (submissionTime == null) {
+            return null;
+        }
+        try {
+            return Instant.parse(submissionTime);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
     }
 
     // Fetch all feedbacks
@@ -23,6 +68,71 @@ public class FeedbackService {
 
     // Save feedback
     public Feedback saveFeedback(Feedback feedback) {
+        feedback.setSubmittedAt(submittedAt(feedback.getSubmissionTime()));
         return feedbackRepository.save(feedback);
     }
-}
\ No newline at end of file
+
+    // Feedback submitted in [from, to), optionally for one team's rooms only.
+    // Reads the archive too when the range reaches back past the archival age.
+    public List<Feedback> findFeedbacksForReport(String teamId, Instant from, Instant to) {
+        Criteria criteria = Criteria.where("submittedAt").gte(from).lt(to);
+        if (teamId != null) {
+            // Some rooms were saved with the teamId in JSON quotes
+            String id = teamId.replace("\"", "");
+            List<String> roomIds = roomRepository.findByTeamIdIn(List.of(id, "\"" + id + "\"")).stream()
+                    .map(Rooms::getRoomId).toList();
+            criteria = criteria.and("roomId").in(roomIds);
+        }
+        Query query = Query.query(criteria).with(Sort.by("submittedAt"));
+
+        // By _id: archival copies a batch before deleting it, so a document can briefly be in both
+        Map<ObjectId, Feedback> feedbacks = new LinkedHashMap<>();
+        mongoTemplate.find(query, Feedback.class).forEach(feedback -> feedbacks.put(feedback.getId(), feedback));
+        if (from.isBefore(archiveService.feedbacksArchivedBefore())) {
+            mongoTemplate.find(query, Feedback.class, ArchiveService.FEEDBACKS_ARCHIVE)
+                    .forEach(feedback -> feedbacks.putIfAbsent(feedback.getId(), feedback));
+        }
+        List<Feedback> sorted = new ArrayList<>(feedbacks.values());
+        sorted.sort(Comparator.comparing(Feedback::getSubmittedAt));
+        return sorted;
+    }
+
+    // On startup, before the readiness probe passes: create the submittedAt index and fill in
+    // submittedAt for feedback saved before it existed, in the hot and the archive collection.
+    // Unparseable times get null so they are not read again. A failure is retried on the next start.
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillSubmittedAt() {
+        try {
+            IndexOperations indexOps = mongoTemplate.indexOps(Feedback.class);
+            new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext())
+                    .resolveIndexFor(Feedback.class)
+                    .forEach(indexOps::ensureIndex);
+            int filled = backfill(mongoTemplate.getCollectionName(Feedback.class))
+                    + backfill(ArchiveService.FEEDBACKS_ARCHIVE);
+            if (filled > 0) {
+                log.info("Filled in submittedAt of {} feedbacks", filled);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not fill in submittedAt, retrying on the next start", e);
+        }
+    }
+
+    private int backfill(String collection) {
+        Query missing = Query.query(Criteria.where("submittedAt").exists(false)).limit(BACKFILL_BATCH_SIZE);
+        missing.fields().include("submissionTime");
+        int filled = 0;
+        while (true) {
+            List<Feedback> batch = mongoTemplate.find(missing, Feedback.class, collection);
+            if (batch.isEmpty()) {
+                return filled;
+            }
+            BulkOperations ops = mongoTemplate.bulkOps(BulkMode.UNORDERED, Feedback.class, collection);
+            for (Feedback feedback : batch) {
+                ops.updateOne(Query.query(Criteria.where("_id").is(feedback.getId())),
+                        Update.update("submittedAt", submittedAt(feedback.getSubmissionTime())));
+            }
+            ops.execute();
+            filled += batch.size();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package dev.cleanhive.reports;
+
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/reports/exports")
+public class ExportController {
+
+    @Autowired
+    private ExportService exportService;
+
+    // Start a task report export, poll the returned job until it is DONE
+    @PostMapping
+    public ResponseEntity<?> submitExport(@RequestBody ExportRequest request) {
+        try {
+            ExportJob job = exportService.submit(request.getManagerId(), request.getFrom(), request.getTo());
+            return new ResponseEntity<>(job, HttpStatus.ACCEPTED);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "30")
+                    .body("Too many exports in progress, try again later");
+        }
+    }
+
+    // Get the progress of an export
+    @GetMapping("/{jobId}")
+    public ResponseEntity<?> getExport(@PathVariable String jobId) {
+        Optional<ExportJob> job = exportService.getJob(jobId);
+        if (job.isPresent()) {
+            return ResponseEntity.ok(job.get());
+        }
+        return new ResponseEntity<>("Export not found", HttpStatus.NOT_FOUND);
+    }
+
+    // Download the CSV of a finished export
+    @GetMapping("/{jobId}/download")
+    public ResponseEntity<?> downloadExport(@PathVariable String jobId) {
+        Optional<ExportJob> job = exportService.getJob(jobId);
+        if (job.isEmpty()) {
+            return new ResponseEntity<>("Export not found", HttpStatus.NOT_FOUND);
+        }
+        try {
+            InputStreamResource resource = new InputStreamResource(exportService.openResult(job.get()));
+            return ResponseEntity.ok()
+                    .contentType(new MediaType("text", "csv"))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                            .filename("tasks-" + jobId + ".csv").build().toString())
+                    .body(resource);
+        } catch (IllegalStateException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.CONFLICT);
+        }
+    }
+}
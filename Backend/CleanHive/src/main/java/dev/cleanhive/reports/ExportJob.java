@@ -0,0 +1,73 @@
+package dev.cleanhive.reports;
+
+import java.time.Instant;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// State of one report export, polled by the app while it runs. Stored in Mongo so any
+// instance can answer the poll and serve the download
+@Document(collection = "report_exports")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ExportJob {
+
+    public enum Status {
+        QUEUED, RUNNING, DONE, FAILED
+    }
+
+    @Id
+    private String jobId;
+
+    private String managerId;
+
+    // Tasks starting in [from, to)
+    private Instant from;
+    private Instant to;
+
+    private Instant createdAt;
+
+    private Status status;
+
+    // -1 while the row count is not known yet
+    private long totalRows = -1;
+
+    private long rowsWritten;
+
+    // Bucket key of the finished CSV
+    private String fileName;
+
+    private String error;
+
+    private Instant finishedAt;
+
+    // Instance that queued the job
+    private String owner;
+
+    // Renewed while the job is queued or running, a job whose heartbeat stops is failed
+    private Instant heartbeatAt;
+
+    public ExportJob(String jobId, String managerId, Instant from, Instant to, String owner) {
+        this.jobId = jobId;
+        this.managerId = managerId;
+        this.from = from;
+        this.to = to;
+        this.createdAt = Instant.now();
+        this.status = Status.QUEUED;
+        this.owner = owner;
+        this.heartbeatAt = createdAt;
+    }
+
+    // 0..100, -1 while the row count is not known yet
+    public int getProgress() {
+        if (status == Status.DONE) {
+            return 100;
+        }
+        return totalRows <= 0 ? -1 : (int) Math.min(99, rowsWritten * 100 / totalRows);
+    }
+}
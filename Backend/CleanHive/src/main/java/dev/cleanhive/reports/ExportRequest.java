@@ -0,0 +1,19 @@
+package dev.cleanhive.reports;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ExportRequest {
+
+    private String managerId;
+
+    // Tasks starting in [from, to)
+    private Instant from;
+    private Instant to;
+}
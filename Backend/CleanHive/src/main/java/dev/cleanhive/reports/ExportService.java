@@ -0,0 +1,311 @@
+package dev.cleanhive.reports;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.mongodb.client.result.UpdateResult;
+
+import dev.cleanhive.archive.ArchiveService;
+import dev.cleanhive.config.StorageService;
+import dev.cleanhive.tasks.Tasks;
+import dev.cleanhive.tasks.TasksService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// Builds task report CSVs in the background. Rows are streamed from a Mongo cursor straight
+// into a multipart upload to the bucket, so a job holds neither the dataset in memory nor a
+// copy of it on disk
+@Service
+@Slf4j
+public class ExportService {
+
+    static final String[] COLUMNS = { "taskId", "title", "description", "employeeId", "startTime", "endTime",
+            "submissionTime", "done", "status", "questionnaireOne", "questionnaireTwo", "questionnaireThree",
+            "questionnaireFour", "questionnaireFive", "imageUrl" };
+
+    // Same order as the cursors, _id breaks ties so a task in both collections lines up
+    private static final Comparator<Tasks> BY_START_TIME = Comparator.comparing(Tasks::getStartTime,
+            Comparator.nullsFirst(Comparator.<Instant>naturalOrder())).thenComparing(Tasks::getId);
+
+    // Identifies the jobs queued on this instance
+    private final String owner = UUID.randomUUID().toString();
+
+    private ThreadPoolExecutor executor;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private TasksService tasksService;
+
+    @Autowired
+    private ArchiveService archiveService;
+
+    @Autowired
+    private StorageService storageService;
+
+    @Value("${cleanhive.reports.export.threads:2}")
+    private int threads;
+
+    @Value("${cleanhive.reports.export.queue-capacity:20}")
+    private int queueCapacity;
+
+    @Value("${cleanhive.reports.export.cursor-batch-size:500}")
+    private int cursorBatchSize;
+
+    @Value("${cleanhive.reports.export.retention-hours:24}")
+    private long retentionHours;
+
+    @Value("${cleanhive.reports.export.heartbeat-timeout-minutes:5}")
+    private long heartbeatTimeoutMinutes;
+
+    @PostConstruct
+    void startExecutor() {
+        AtomicInteger count = new AtomicInteger();
+        // Fixed size pool with a bounded queue, a full queue rejects new jobs instead of piling them up
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread thread = new Thread(r, "report-export-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    void stopExecutor() {
+        executor.shutdownNow();
+    }
+
+    // Queue an export, throws RejectedExecutionException when the queue is full
+    public ExportJob submit(String managerId, Instant from, Instant to) {
+        if (managerId == null || managerId.isBlank()) {
+            throw new IllegalArgumentException("managerId is required");
+        }
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        ExportJob job = mongoTemplate.insert(new ExportJob(UUID.randomUUID().toString(), managerId, from, to, owner));
+        try {
+            executor.execute(() -> run(job));
+        } catch (RuntimeException e) {
+            mongoTemplate.remove(job);
+            throw e;
+        }
+        return job;
+    }
+
+    public Optional<ExportJob> getJob(String jobId) {
+        return Optional.ofNullable(mongoTemplate.findById(jobId, ExportJob.class));
+    }
+
+    // Open the finished CSV, the caller closes the stream
+    public InputStream openResult(ExportJob job) {
+        if (job.getStatus() != ExportJob.Status.DONE) {
+            throw new IllegalStateException("Export is " + job.getStatus());
+        }
+        return storageService.openFile(job.getFileName());
+    }
+
+    // Renew the heartbeat of the jobs waiting in this instance's queue, running jobs renew their
+    // own once per cursor batch. Then fail queued or running jobs whose heartbeat stopped, e.g.
+    // because their instance went away, so the app stops polling them and can start a new one.
+    @Scheduled(fixedDelayString = "${cleanhive.reports.export.sweep-interval-ms:60000}")
+    public void failStaleJobs() {
+        Instant now = Instant.now();
+        mongoTemplate.updateMulti(Query.query(Criteria.where("owner").is(owner).and("status").is(ExportJob.Status.QUEUED)),
+                Update.update("heartbeatAt", now), ExportJob.class);
+
+        Instant cutoff = now.minus(Duration.ofMinutes(heartbeatTimeoutMinutes));
+        Query stale = Query.query(Criteria.where("status").in(ExportJob.Status.QUEUED, ExportJob.Status.RUNNING)
+                .orOperator(Criteria.where("heartbeatAt").lt(cutoff),
+                        Criteria.where("heartbeatAt").exists(false).and("createdAt").lt(cutoff)));
+        UpdateResult failed = mongoTemplate.updateMulti(stale, Update.update("status", ExportJob.Status.FAILED)
+                .set("error", "Export stopped responding").set("finishedAt", now), ExportJob.class);
+        if (failed.getModifiedCount() > 0) {
+            log.warn("Failed {} exports that stopped responding", failed.getModifiedCount());
+        }
+    }
+
+    // Forget jobs created before the retention period and remove their files
+    @Scheduled(fixedDelayString = "${cleanhive.reports.export.cleanup-interval-ms:3600000}")
+    public void purgeExpiredJobs() {
+        Instant cutoff = Instant.now().minus(Duration.ofHours(retentionHours));
+        List<ExportJob> expired = mongoTemplate.find(Query.query(Criteria.where("createdAt").lt(cutoff)),
+                ExportJob.class);
+        for (ExportJob job : expired) {
+            if (job.getFileName() != null) {
+                try {
+                    storageService.deleteFile(job.getFileName());
+                } catch (RuntimeException e) {
+                    log.warn("Could not delete export {}: {}", job.getFileName(), e.getMessage());
+                }
+            }
+            mongoTemplate.remove(job);
+        }
+    }
+
+    private void run(ExportJob job) {
+        String key = "exports/" + job.getJobId() + ".csv";
+        try {
+            Query query = Query.query(Criteria.where("managerId").is(job.getManagerId())
+                    .and("startTime").gte(job.getFrom()).lt(job.getTo()));
+            boolean includeArchive = job.getFrom().isBefore(archiveService.tasksArchivedBefore());
+
+            long total = mongoTemplate.count(query, Tasks.class);
+            if (includeArchive) {
+                total += mongoTemplate.count(query, Tasks.class, ArchiveService.TASKS_ARCHIVE);
+            }
+            // A job failed as stale while it waited in the queue is not started anymore
+            if (!update(job, Update.update("status", ExportJob.Status.RUNNING).set("totalRows", total)
+                    .set("heartbeatAt", Instant.now()), ExportJob.Status.QUEUED)) {
+                return;
+            }
+
+            Query sorted = Query.of(query).with(Sort.by("startTime", "_id")).cursorBatchSize(cursorBatchSize);
+            storageService.uploadStream(key, "text/csv", out -> writeRows(job, sorted, includeArchive, out));
+            if (!update(job, Update.update("status", ExportJob.Status.DONE).set("rowsWritten", job.getRowsWritten())
+                    .set("fileName", key).set("finishedAt", Instant.now()), ExportJob.Status.RUNNING)) {
+                // Failed as stale just before the end, nobody will download the file
+                storageService.deleteFile(key);
+                return;
+            }
+            log.info("Export {} finished with {} rows", job.getJobId(), job.getRowsWritten());
+        } catch (Exception e) {
+            log.error("Export {} failed", job.getJobId(), e);
+            update(job, Update.update("status", ExportJob.Status.FAILED).set("error", e.getMessage())
+                    .set("finishedAt", Instant.now()), ExportJob.Status.QUEUED, ExportJob.Status.RUNNING);
+        }
+    }
+
+    private void writeRows(ExportJob job, Query sorted, boolean includeArchive, OutputStream out) throws IOException {
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                Stream<Tasks> hot = mongoTemplate.stream(sorted, Tasks.class);
+                Stream<Tasks> archived = includeArchive
+                        ? mongoTemplate.stream(sorted, Tasks.class, ArchiveService.TASKS_ARCHIVE)
+                        : Stream.empty()) {
+            writeRow(writer, COLUMNS);
+            // Both cursors are sorted by startTime and _id, merge them so the file stays in order.
+            // A task caught between archival's copy and delete is in both and written once.
+            Iterator<Tasks> left = hot.iterator();
+            Iterator<Tasks> right = archived.iterator();
+            Tasks a = next(left);
+            Tasks b = next(right);
+            long rows = 0;
+            while (a != null || b != null) {
+                int order = a == null ? 1 : b == null ? -1 : BY_START_TIME.compare(a, b);
+                if (order <= 0) {
+                    writeTask(writer, a);
+                    a = next(left);
+                    if (order == 0) {
+                        b = next(right);
+                    }
+                } else {
+                    writeTask(writer, b);
+                    b = next(right);
+                }
+                // Publish progress and renew the heartbeat once per cursor batch rather than per row
+                if (++rows % cursorBatchSize == 0
+                        && !update(job, Update.update("rowsWritten", rows).set("heartbeatAt", Instant.now()),
+                                ExportJob.Status.RUNNING)) {
+                    throw new IllegalStateException("Export was failed as stale");
+                }
+            }
+            job.setRowsWritten(rows);
+        }
+    }
+
+    // Update the job if it is still in one of the expected states, false when it is not
+    private boolean update(ExportJob job, Update update, ExportJob.Status... expected) {
+        Query query = Query.query(Criteria.where("_id").is(job.getJobId()).and("status").in((Object[]) expected));
+        return mongoTemplate.updateFirst(query, update, ExportJob.class).getMatchedCount() > 0;
+    }
+
+    private static Tasks next(Iterator<Tasks> iterator) {
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+
+    private void writeTask(Writer writer, Tasks task) throws IOException {
+        writeRow(writer,
+                task.getTaskId(),
+                task.getTitle(),
+                task.getDescription(),
+                task.getEmployeeId(),
+                toString(task.getStartTime()),
+                toString(task.getEndTime()),
+                toString(task.getSubmissionTime()),
+                String.valueOf(task.isDone()),
+                status(task),
+                task.getQuestionnaireOne(),
+                task.getQuestionnaireTwo(),
+                task.getQuestionnaireThree(),
+                task.getQuestionnaireFour(),
+                task.getQuestionnaireFive(),
+                task.getImageUrl());
+    }
+
+    // Open tasks have no status yet, done tasks use the stored one and older rows fall back to the answers
+    private String status(Tasks task) {
+        if (!task.isDone()) {
+            return null;
+        }
+        return task.getStatus() != null ? task.getStatus() : tasksService.evaluateStatus(task);
+    }
+
+    private static String toString(Instant instant) {
+        return instant == null ? null : instant.toString();
+    }
+
+    // RFC 4180: quote fields containing separators, quotes or line breaks
+    static void writeRow(Writer writer, String... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            String value = values[i];
+            if (value == null || value.isEmpty()) {
+                continue;
+            }
+            // Spreadsheets run cells starting with these as formulas, the quote makes them plain text
+            if ("=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+                value = "'" + value;
+            }
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0
+                    || value.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(value);
+            }
+        }
+        writer.write("\r\n");
+    }
+}
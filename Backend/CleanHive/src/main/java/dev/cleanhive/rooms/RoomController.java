@@ -8,6 +8,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import dev.cleanhive.search.SearchPage;
 import dev.cleanhive.teams.Teams;
 import dev.cleanhive.teams.TeamsService;
 
@@ -24,6 +25,19 @@ public class RoomController {
         return ResponseEntity.ok(roomService.getAllRooms());
     }
 
+    // Search a team's rooms by name or floor (prefix and substring, case-insensitive)
+    @GetMapping("/search")
+    public ResponseEntity<?> searchRooms(@RequestParam String teamId,
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        if (page < 0 || size < 1 || size > 200) {
+            return new ResponseEntity<>("Invalid page or size", HttpStatus.BAD_REQUEST);
+        }
+        SearchPage<Rooms> result = roomService.searchRooms(teamId, q, page, size);
+        return ResponseEntity.ok(result);
+    }
+
     // Create new room
     @PostMapping
     public ResponseEntity<Rooms> createRoom(@RequestBody Rooms room) {
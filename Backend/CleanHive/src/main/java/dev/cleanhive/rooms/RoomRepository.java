@@ -1,5 +1,6 @@
 package dev.cleanhive.rooms;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.bson.types.ObjectId;
@@ -12,4 +13,6 @@ import dev.cleanhive.rooms.Rooms;
 public interface RoomRepository extends MongoRepository<Rooms, ObjectId> {
     Optional<Rooms> findByRoomId(String roomId);
     void deleteByRoomId(String roomId);
+    List<Rooms> findByTeamId(String teamId);
+    List<Rooms> findByTeamIdIn(List<String> teamIds);
 }
\ No newline at end of file
@@ -1,25 +1,56 @@
 package dev.cleanhive.rooms;
 
+import static dev.cleanhive.search.NgramIndex.nullToEmpty;
+
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import dev.cleanhive.search.NgramIndex;
+import dev.cleanhive.search.SearchPage;
+import jakarta.annotation.PostConstruct;
+
 @Service
 public class RoomService {
 
     @Autowired
     private RoomRepository roomRepository;
 
+    // Room name and floor by teamId
+    private NgramIndex<Rooms> searchIndex;
+
+    @PostConstruct
+    void createSearchIndex() {
+        searchIndex = new NgramIndex<>(Rooms::getRoomId, Rooms::getTeamId,
+                room -> List.of(nullToEmpty(room.getRoomName()), nullToEmpty(room.getRoomFloor())),
+                roomRepository::findByTeamId, roomRepository::findAll);
+    }
+
+    // Full reload in the background, picks up rooms saved or deleted on other instances
+    @Scheduled(fixedDelayString = "${cleanhive.search.refresh-interval-ms:300000}",
+            initialDelayString = "${cleanhive.search.refresh-interval-ms:300000}")
+    void refreshSearchIndex() {
+        searchIndex.refresh();
+    }
+
     // Fetch all rooms
     public List<Rooms> getAllRooms() {
         return roomRepository.findAll();
     }
 
+    // Fetch the rooms of one team
+    public List<Rooms> getRoomsByTeamId(String teamId) {
+        return roomRepository.findByTeamId(teamId);
+    }
+
     // Save room to team
     public Rooms saveRoom(Rooms room) {
-        return roomRepository.save(room);
+        Rooms savedRoom = roomRepository.save(room);
+        searchIndex.put(savedRoom);
+        return savedRoom;
     }
 
     // Delete room from team
@@ -27,8 +58,14 @@ public class RoomService {
         Optional<Rooms> room = roomRepository.findByRoomId(roomId);
         if (room.isPresent()) {
             roomRepository.deleteByRoomId(roomId);
+            searchIndex.remove(roomId);
         } else {
             throw new RuntimeException("Room not found!");
         }
     }
-}
\ No newline at end of file
+
+    // Search a team's rooms by name or floor
+    public SearchPage<Rooms> searchRooms(String teamId, String query, int page, int size) {
+        return searchIndex.search(teamId, query, page, size);
+    }
+}
@@ -0,0 +1,344 @@
+package dev.cleanhive.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// In-memory trigram index for case-insensitive prefix and substring search.
+// Documents are partitioned by scope (e.g. teamId). A scope is loaded on its first search
+// with scopeLoader, kept current by put/remove on writes, and everything is reloaded by
+// refresh(), which the owning service runs in the background to pick up writes made by
+// other instances. Searches never load more than the one scope they ask for.
+public class NgramIndex<T> {
+
+    private static final int GRAM = 3;
+
+    private final Function<T, String> keyOf;
+    private final Function<T, String> scopeOf;
+    private final Function<T, List<String>> fieldsOf;
+    private final Function<String, List<T>> scopeLoader;
+    private final Supplier<List<T>> loader;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private State<T> state = new State<>();
+
+    // Writes that arrive while a refresh is running, replayed on the refreshed state
+    private List<Consumer<State<T>>> pending;
+
+    public NgramIndex(Function<T, String> keyOf, Function<T, String> scopeOf, Function<T, List<String>> fieldsOf,
+            Function<String, List<T>> scopeLoader, Supplier<List<T>> loader) {
+        this.keyOf = keyOf;
+        this.scopeOf = scopeOf;
+        this.fieldsOf = fieldsOf;
+        this.scopeLoader = scopeLoader;
+        this.loader = loader;
+    }
+
+    public void put(T value) {
+        Doc<T> doc = toDoc(value);
+        if (doc.key == null) {
+            return;
+        }
+        write(state -> state.put(doc));
+    }
+
+    public void remove(String key) {
+        write(state -> state.remove(key));
+    }
+
+    // Replace one scope with a fresh load, e.g. after its membership changed elsewhere
+    public void reloadScope(String scope) {
+        List<Doc<T>> docs = toDocs(scopeLoader.apply(scope));
+        write(state -> state.replaceScope(scope, docs));
+    }
+
+    // Keys currently indexed in the scope
+    public Set<String> keys(String scope) {
+        ensureLoaded(scope);
+        lock.readLock().lock();
+        try {
+            Partition partition = state.partitions.get(scope);
+            return partition == null ? Set.of() : Set.copyOf(partition.keys);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Reload every scope; concurrent calls are skipped, searches keep using the current state
+    public void refresh() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            reload();
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    public SearchPage<T> search(String scope, String query, int page, int size) {
+        if (page < 0 || size < 1) {
+            throw new IllegalArgumentException("Invalid page or size");
+        }
+        ensureLoaded(scope);
+        String q = normalize(query);
+        List<Match<T>> matches = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            Partition partition = state.partitions.get(scope);
+            if (partition != null) {
+                for (String key : partition.candidates(q)) {
+                    Doc<T> doc = state.docs.get(key);
+                    int score = score(doc.fields, q);
+                    if (score > 0) {
+                        matches.add(new Match<>(doc, score));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        matches.sort(Comparator.<Match<T>>comparingInt(match -> -match.score)
+                .thenComparing(match -> match.doc.fields.isEmpty() ? "" : match.doc.fields.get(0)));
+        // In long, page * size of a far page does not fit an int
+        int from = (int) Math.min(matches.size(), (long) page * size);
+        int to = (int) Math.min(matches.size(), (long) from + size);
+        List<T> content = matches.subList(from, to).stream().map(match -> match.doc.value).toList();
+        return new SearchPage<>(content, page, size, matches.size());
+    }
+
+    // For fieldsOf, whose lists must not hold null
+    public static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    // Lower case, without accents, Turkish dotless i folded to i
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String stripped = Normalizer.normalize(value, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        return stripped.toLowerCase(Locale.ROOT).replace('ı', 'i').trim();
+    }
+
+    // 4 exact, 3 field prefix, 2 word prefix, 1 substring, 0 no match
+    private static int score(List<String> fields, String q) {
+        if (q.isEmpty()) {
+            return 1;
+        }
+        int best = 0;
+        for (String field : fields) {
+            if (field.equals(q)) {
+                return 4;
+            } else if (field.startsWith(q)) {
+                best = Math.max(best, 3);
+            } else if (field.contains(" " + q)) {
+                best = Math.max(best, 2);
+            } else if (field.contains(q)) {
+                best = Math.max(best, 1);
+            }
+        }
+        return best;
+    }
+
+    private static Set<String> grams(String value) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    private List<Doc<T>> toDocs(List<T> values) {
+        List<Doc<T>> docs = new ArrayList<>(values.size());
+        for (T value : values) {
+            Doc<T> doc = toDoc(value);
+            if (doc.key != null) {
+                docs.add(doc);
+            }
+        }
+        return docs;
+    }
+
+    private Doc<T> toDoc(T value) {
+        List<String> fields = new ArrayList<>();
+        for (String field : fieldsOf.apply(value)) {
+            String normalized = normalize(field);
+            if (!normalized.isEmpty()) {
+                fields.add(normalized);
+            }
+        }
+        String scope = scopeOf.apply(value);
+        return new Doc<>(keyOf.apply(value), scope == null ? "" : scope, value, fields);
+    }
+
+    private void write(Consumer<State<T>> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(state);
+            if (pending != null) {
+                pending.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Load a scope nobody has searched yet; only that scope is read
+    private void ensureLoaded(String scope) {
+        lock.readLock().lock();
+        try {
+            if (state.isLoaded(scope)) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        reloadScope(scope);
+    }
+
+    private void reload() {
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        State<T> fresh = new State<>();
+        try {
+            for (Doc<T> doc : toDocs(loader.get())) {
+                fresh.put(doc);
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            pending = null;
+            lock.writeLock().unlock();
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pending.forEach(change -> change.accept(fresh));
+            pending = null;
+            fresh.complete = true;
+            state = fresh;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private record Doc<T>(String key, String scope, T value, List<String> fields) {
+    }
+
+    private record Match<T>(Doc<T> doc, int score) {
+    }
+
+    private static class State<T> {
+        private final Map<String, Doc<T>> docs = new HashMap<>();
+        private final Map<String, Partition> partitions = new HashMap<>();
+
+        // Scopes loaded on their own, or all of them after a full load
+        private final Set<String> loadedScopes = new HashSet<>();
+        private boolean complete;
+
+        private boolean isLoaded(String scope) {
+            return complete || loadedScopes.contains(scope);
+        }
+
+        private void replaceScope(String scope, List<Doc<T>> fresh) {
+            Partition partition = partitions.get(scope);
+            if (partition != null) {
+                for (String key : List.copyOf(partition.keys)) {
+                    remove(key);
+                }
+            }
+            fresh.forEach(this::put);
+            loadedScopes.add(scope);
+        }
+
+        private void put(Doc<T> doc) {
+            remove(doc.key);
+            docs.put(doc.key, doc);
+            partitions.computeIfAbsent(doc.scope, scope -> new Partition()).add(doc.key, doc.fields);
+        }
+
+        private void remove(String key) {
+            Doc<T> existing = docs.remove(key);
+            if (existing != null) {
+                Partition partition = partitions.get(existing.scope);
+                partition.remove(key, existing.fields);
+                if (partition.keys.isEmpty()) {
+                    partitions.remove(existing.scope);
+                }
+            }
+        }
+    }
+
+    // Postings of one scope: trigram -> keys of the documents containing it
+    private static class Partition {
+        private final Set<String> keys = new HashSet<>();
+        private final Map<String, Set<String>> postings = new HashMap<>();
+
+        private void add(String key, List<String> fields) {
+            keys.add(key);
+            for (String field : fields) {
+                for (String gram : grams(field)) {
+                    postings.computeIfAbsent(gram, g -> new HashSet<>()).add(key);
+                }
+            }
+        }
+
+        private void remove(String key, List<String> fields) {
+            keys.remove(key);
+            for (String field : fields) {
+                for (String gram : grams(field)) {
+                    Set<String> posting = postings.get(gram);
+                    if (posting != null) {
+                        posting.remove(key);
+                        if (posting.isEmpty()) {
+                            postings.remove(gram);
+                        }
+                    }
+                }
+            }
+        }
+
+        // Keys that may match; shorter queries than a trigram check every key of the scope,
+        // which is one team's rooms or members
+        private Set<String> candidates(String q) {
+            if (q.length() < GRAM) {
+                return keys;
+            }
+            List<Set<String>> lists = new ArrayList<>();
+            for (String gram : grams(q)) {
+                Set<String> posting = postings.get(gram);
+                if (posting == null) {
+                    return Set.of();
+                }
+                lists.add(posting);
+            }
+            lists.sort(Comparator.comparingInt(Set::size));
+            Set<String> result = new HashSet<>(lists.get(0));
+            for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+                result.retainAll(lists.get(i));
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package dev.cleanhive.search;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SearchPage<T> {
+
+    // Matches on this page, best first
+    private List<T> content;
+
+    private int page;
+
+    private int size;
+
+    // Matches on all pages
+    private int totalElements;
+}
@@ -0,0 +1,28 @@
+package dev.cleanhive.tasks;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Multipart form of POST /tasks/{taskId}/submit: questionnaire answers plus photos
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskSubmission {
+
+    private String questionnaireOne;
+    private String questionnaireTwo;
+    private String questionnaireThree;
+    private String questionnaireFour;
+    private String questionnaireFive;
+
+    // Defaults to the time the server receives the submission
+    private Instant submissionTime;
+
+    private List<MultipartFile> images;
+}
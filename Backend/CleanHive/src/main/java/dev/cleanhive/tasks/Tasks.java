@@ -1,9 +1,11 @@
 package dev.cleanhive.tasks;
 
 import java.time.Instant;
+import java.util.List;
 
 import org.bson.types.ObjectId;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import lombok.AllArgsConstructor;
@@ -19,6 +21,7 @@ public class Tasks {
     private ObjectId id;
 
     // taskId
+    @Indexed
     private String taskId;
 
     // ObjectId for the manager
@@ -63,6 +66,15 @@ public class Tasks {
     // Task done
     private boolean done;
 
+    // Status computed from the questionnaire when the task is submitted
+    private String status;
+
+    // All photos of the submission, imageUrl holds the first one
+    private List<String> imageUrls;
+
+    // Idempotency key of the submission that completed the task
+    private String submissionId;
+
     public String getImageUrl() {
         return imageUrl;
     }
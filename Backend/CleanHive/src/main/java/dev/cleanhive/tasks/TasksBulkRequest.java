@@ -0,0 +1,26 @@
+package dev.cleanhive.tasks;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TasksBulkRequest {
+
+    // Tasks to insert (bulk create only)
+    private List<Tasks> tasks;
+
+    // Explicit taskIds to operate on
+    private List<String> taskIds;
+
+    // Used instead of taskIds to select the tasks
+    private TasksFilter filter;
+
+    // Field name -> new value, applied to every selected task (bulk update only)
+    private Map<String, Object> fields;
+}
@@ -0,0 +1,43 @@
+package dev.cleanhive.tasks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TasksBulkResult {
+
+    public static final String OK = "OK";
+    public static final String FAILED = "FAILED";
+
+    private int inserted;
+    private int matched;
+    private int modified;
+    private int deleted;
+
+    // Requested taskIds that matched no task, from the counts of the write itself. Which ones is not
+    // reported, that would take a read before the write.
+    private int notFound;
+
+    // One entry per task in request order (a single "filter" entry when a filter selected the tasks),
+    // FAILED only for write errors
+    private List<Item> items = new ArrayList<>();
+
+    public boolean hasFailures() {
+        return notFound > 0 || items.stream().anyMatch(item -> !OK.equals(item.getStatus()));
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Item {
+        private String taskId;
+        private String status;
+        private String message;
+    }
+}
@@ -1,10 +1,13 @@
 package dev.cleanhive.tasks;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
@@ -27,6 +30,21 @@ public class TasksController {
         return new ResponseEntity<>(tasksService.allTasks(), HttpStatus.OK);
     }
 
+    // Get a manager's tasks whose startTime (or endTime, by=endTime) is in [from, to), including archived ones
+    @GetMapping("/report")
+    public ResponseEntity<?> getTasksForReport(@RequestParam String managerId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(defaultValue = "startTime") String by) {
+        if (!from.isBefore(to)) {
+            return new ResponseEntity<>("from must be before to", HttpStatus.BAD_REQUEST);
+        }
+        if (!TasksService.REPORT_TIME_FIELDS.contains(by)) {
+            return new ResponseEntity<>("by must be startTime or endTime", HttpStatus.BAD_REQUEST);
+        }
+        return new ResponseEntity<>(tasksService.findTasksForReport(managerId, by, from, to), HttpStatus.OK);
+    }
+
     // Create a new task
     @PostMapping
     public ResponseEntity<Tasks> createTask(@RequestBody Tasks task) {
@@ -48,6 +66,26 @@ public class TasksController {
         }
     }
 
+    // Submit a finished task in one multipart request: questionnaire answers plus photos.
+    // Retrying with the same Idempotency-Key header returns the task without applying it twice.
+    @PostMapping(value = "/{taskId}/submit", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> submitTask(@PathVariable String taskId,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @ModelAttribute TaskSubmission submission) {
+        try {
+            Optional<Tasks> task = tasksService.submitTask(taskId, idempotencyKey, submission);
+            if (task.isPresent()) {
+                return ResponseEntity.ok(task.get());
+            }
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Task not found");
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (IllegalStateException e) {
+            // Photos could not be stored, nothing was written to the task; safe to retry
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.SERVICE_UNAVAILABLE);
+        }
+    }
+
     // Update tasks
     @PutMapping("update/{taskId}")
     public ResponseEntity<?> updateTask(@PathVariable String taskId, @RequestBody Tasks updatedTask) {
@@ -70,10 +108,10 @@ public class TasksController {
         }
     }
 
-    // Evaluate task status
+    // Evaluate task status, archived tasks included
     @GetMapping("/{taskId}/status")
     public ResponseEntity<String> getTaskStatus(@PathVariable String taskId) {
-        Optional<Tasks> taskOptional = tasksRepository.findByTaskId(taskId);
+        Optional<Tasks> taskOptional = tasksService.findTask(taskId);
         if (taskOptional.isPresent()) {
             String status = tasksService.evaluateStatus(taskOptional.get());
             return ResponseEntity.ok(status);
@@ -81,4 +119,50 @@ public class TasksController {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Task not found");
         }
     }
+
+    // Bulk create tasks
+    @PostMapping("/bulk/create")
+    public ResponseEntity<?> bulkCreateTasks(@RequestBody TasksBulkRequest request) {
+        try {
+            return bulkResponse(tasksService.bulkCreate(request.getTasks()));
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    // Bulk update fields on tasks by taskIds or filter
+    @PutMapping("/bulk/update")
+    public ResponseEntity<?> bulkUpdateTasks(@RequestBody TasksBulkRequest request) {
+        try {
+            return bulkResponse(tasksService.bulkUpdate(request));
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    // Bulk mark tasks as done by taskIds or filter
+    @PutMapping("/bulk/complete")
+    public ResponseEntity<?> bulkCompleteTasks(@RequestBody TasksBulkRequest request) {
+        try {
+            return bulkResponse(tasksService.bulkComplete(request));
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    // Bulk delete tasks by taskIds or filter (POST, like the single delete route)
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<?> bulkDeleteTasks(@RequestBody TasksBulkRequest request) {
+        try {
+            return bulkResponse(tasksService.bulkDelete(request));
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    // 207 when some of the items failed, so the client knows to look at them
+    private ResponseEntity<TasksBulkResult> bulkResponse(TasksBulkResult result) {
+        HttpStatus status = result.hasFailures() ? HttpStatus.MULTI_STATUS : HttpStatus.OK;
+        return new ResponseEntity<>(result, status);
+    }
 }
@@ -0,0 +1,36 @@
+package dev.cleanhive.tasks;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TasksFilter {
+
+    // Tasks created by this manager
+    private String managerId;
+
+    // Tasks assigned to this employee
+    private String employeeId;
+
+    // Room name
+    private String title;
+
+    // Only done / only open tasks
+    private Boolean done;
+
+    // Tasks starting at or after this time
+    private Instant startFrom;
+
+    // Tasks starting before this time
+    private Instant startTo;
+
+    public boolean isEmpty() {
+        return managerId == null && employeeId == null && title == null && done == null
+                && startFrom == null && startTo == null;
+    }
+}
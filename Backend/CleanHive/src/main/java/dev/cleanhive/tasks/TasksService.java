@@ -1,23 +1,162 @@
 package dev.cleanhive.tasks;
 
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 
 import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+
+import dev.cleanhive.archive.ArchiveService;
+import dev.cleanhive.config.StorageService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 
 @Service
+@Slf4j
 public class TasksService {
 
+    // Fields a manager may change through the bulk update endpoint, with the type their value must have
+    private static final Map<String, Class<?>> BULK_UPDATABLE_FIELDS = Map.ofEntries(
+            Map.entry("title", String.class), Map.entry("description", String.class),
+            Map.entry("startTime", Instant.class), Map.entry("endTime", Instant.class),
+            Map.entry("managerId", String.class), Map.entry("employeeId", String.class),
+            Map.entry("imageUrl", String.class), Map.entry("questionnaireOne", String.class),
+            Map.entry("questionnaireTwo", String.class), Map.entry("questionnaireThree", String.class),
+            Map.entry("questionnaireFour", String.class), Map.entry("questionnaireFive", String.class),
+            Map.entry("submissionTime", Instant.class), Map.entry("done", Boolean.class));
+
+    private static final Pattern SUBMISSION_ID = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+    private static final Pattern IMAGE_EXTENSION = Pattern.compile("\\.[A-Za-z0-9]{1,5}$");
+
+    private ThreadPoolExecutor uploadExecutor;
+
     @Autowired
     private TasksRepository tasksRepository;
 
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private ArchiveService archiveService;
+
+    @Autowired
+    private StorageService storageService;
+
+    @Value("${cleanhive.tasks.submit.upload-threads:8}")
+    private int uploadThreads;
+
+    @PostConstruct
+    void startUploadExecutor() {
+        AtomicInteger count = new AtomicInteger();
+        // When all threads and the queue are busy the request thread uploads its photos itself
+        uploadExecutor = new ThreadPoolExecutor(uploadThreads, uploadThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(uploadThreads * 8), r -> {
+                    Thread thread = new Thread(r, "task-submit-upload-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    void stopUploadExecutor() {
+        uploadExecutor.shutdown();
+    }
+
     // Method to fetch all tasks
     public List<Tasks> allTasks() {
         return tasksRepository.findAll();
     }
 
+    // One task by taskId, from the archive when it has been moved there
+    public Optional<Tasks> findTask(String taskId) {
+        Optional<Tasks> task = tasksRepository.findByTaskId(taskId);
+        if (task.isPresent()) {
+            return task;
+        }
+        return Optional.ofNullable(mongoTemplate.findOne(Query.query(Criteria.where("taskId").is(taskId)),
+                Tasks.class, ArchiveService.TASKS_ARCHIVE));
+    }
+
+    // Time fields a report range can be keyed on
+    public static final Set<String> REPORT_TIME_FIELDS = Set.of("startTime", "endTime");
+
+    // Tasks of a manager whose startTime or endTime (timeField) is in [from, to). Reads the archive
+    // too when the range reaches back past the archival age. Done tasks submitted before status was
+    // stored get it evaluated here, so the report needs no status call per task.
+    public List<Tasks> findTasksForReport(String managerId, String timeField, Instant from, Instant to) {
+        List<Tasks> tasks = findTasksBetween(Criteria.where("managerId").is(managerId), timeField, from, to);
+        for (Tasks task : tasks) {
+            if (task.isDone() && task.getStatus() == null) {
+                task.setStatus(evaluateStatus(task));
+            }
+        }
+        return tasks;
+    }
+
+    // A worker's tasks starting in [from, to), including archived ones
+    public List<Tasks> findEmployeeTasks(String employeeId, Instant from, Instant to) {
+        return findTasksBetween(Criteria.where("employeeId").is(employeeId), "startTime", from, to);
+    }
+
+    // Archived tasks ended before tasksArchivedBefore, so they also started before it: the archive
+    // only has to be read when the range starts earlier, whichever field it is keyed on
+    private List<Tasks> findTasksBetween(Criteria owner, String timeField, Instant from, Instant to) {
+        if (!REPORT_TIME_FIELDS.contains(timeField)) {
+            throw new IllegalArgumentException("Reports are keyed on startTime or endTime, not " + timeField);
+        }
+        Query query = Query.query(owner.and(timeField).gte(from).lt(to)).with(Sort.by(timeField));
+        List<Tasks> tasks = mongoTemplate.find(query, Tasks.class);
+        if (!from.isBefore(archiveService.tasksArchivedBefore())) {
+            return tasks;
+        }
+        // By _id: archival copies a batch before deleting it, so a task can briefly be in both
+        Map<ObjectId, Tasks> byId = new LinkedHashMap<>();
+        tasks.forEach(task -> byId.put(task.getId(), task));
+        mongoTemplate.find(query, Tasks.class, ArchiveService.TASKS_ARCHIVE)
+                .forEach(task -> byId.putIfAbsent(task.getId(), task));
+        List<Tasks> merged = new ArrayList<>(byId.values());
+        merged.sort(Comparator.comparing(task -> "endTime".equals(timeField) ? task.getEndTime() : task.getStartTime()));
+        return merged;
+    }
+
     // Create a new task
     public Tasks createTask(Tasks task) {
         return tasksRepository.save(task);
@@ -72,16 +211,104 @@ public class TasksService {
         }
     }
 
+    // Complete a task in one go: upload the photos concurrently, then set the answers, photos,
+    // submissionTime, done and status with a single findAndModify. The task is looked up first, so
+    // an unknown task or a retry of an applied submission returns before anything is uploaded.
+    // Photo keys are derived from the task's _id and the submissionId, so concurrent retries with
+    // the same id overwrite the same objects and only one of them is applied.
+    // Empty if the task does not exist.
+    public Optional<Tasks> submitTask(String taskId, String submissionId, TaskSubmission submission) {
+        if (submissionId == null) {
+            submissionId = UUID.randomUUID().toString();
+        } else if (!SUBMISSION_ID.matcher(submissionId).matches()) {
+            throw new IllegalArgumentException("Idempotency key must be 1-64 letters, digits, '-' or '_'");
+        }
+
+        Optional<Tasks> existing = tasksRepository.findByTaskId(taskId);
+        if (existing.isEmpty() || submissionId.equals(existing.get().getSubmissionId())) {
+            return existing;
+        }
+        ObjectId id = existing.get().getId();
+
+        List<MultipartFile> images = submission.getImages() == null ? List.of()
+                : submission.getImages().stream().filter(image -> !image.isEmpty()).toList();
+        List<String> imageKeys = new ArrayList<>();
+        List<CompletableFuture<Void>> uploads = new ArrayList<>();
+        for (int i = 0; i < images.size(); i++) {
+            MultipartFile image = images.get(i);
+            String key = imageKey(id, submissionId, i, image);
+            imageKeys.add(key);
+            uploads.add(CompletableFuture.runAsync(() -> storageService.uploadFile(image, key), uploadExecutor));
+        }
+        try {
+            CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            throw new IllegalStateException("Could not upload images: " + e.getCause().getMessage(), e.getCause());
+        }
+
+        Update update = new Update()
+                .set("questionnaireOne", submission.getQuestionnaireOne())
+                .set("questionnaireTwo", submission.getQuestionnaireTwo())
+                .set("questionnaireThree", submission.getQuestionnaireThree())
+                .set("questionnaireFour", submission.getQuestionnaireFour())
+                .set("questionnaireFive", submission.getQuestionnaireFive())
+                .set("submissionTime", submission.getSubmissionTime() != null
+                        ? submission.getSubmissionTime() : Instant.now())
+                .set("done", true)
+                .set("status", evaluateStatus(submission.getQuestionnaireOne(), submission.getQuestionnaireTwo(),
+                        submission.getQuestionnaireThree(), submission.getQuestionnaireFour(),
+                        submission.getQuestionnaireFive()))
+                .set("submissionId", submissionId);
+        if (!imageKeys.isEmpty()) {
+            update.set("imageUrl", imageKeys.get(0)).set("imageUrls", imageKeys);
+        }
+
+        Query query = Query.query(Criteria.where("_id").is(id).and("submissionId").ne(submissionId));
+        Tasks updated = mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), Tasks.class);
+        if (updated != null) {
+            return Optional.of(updated);
+        }
+        // Nothing matched: a concurrent retry with the same id went through first, or the task was
+        // deleted while the photos were uploading
+        String appliedId = submissionId;
+        return tasksRepository.findById(id).filter(task -> appliedId.equals(task.getSubmissionId()));
+    }
+
+    // Flat key, /file/download/{fileName} takes it as a single path segment. The taskId comes from
+    // the client and may contain anything, the _id is always hex
+    private static String imageKey(ObjectId taskId, String submissionId, int index, MultipartFile image) {
+        String extension = ".jpg";
+        String name = image.getOriginalFilename();
+        if (name != null && IMAGE_EXTENSION.matcher(name).find()) {
+            extension = name.substring(name.lastIndexOf('.')).toLowerCase(Locale.ROOT);
+        }
+        return taskId.toHexString() + "_" + submissionId + "_" + index + extension;
+    }
+
+    // On startup, before the readiness probe passes: the taskId index behind findByTaskId.
+    // A failure is retried on the next start, submissions still work without the index.
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        try {
+            IndexOperations indexOps = mongoTemplate.indexOps(Tasks.class);
+            new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext())
+                    .resolveIndexFor(Tasks.class)
+                    .forEach(indexOps::ensureIndex);
+        } catch (RuntimeException e) {
+            log.warn("Could not create the tasks indexes, retrying on the next start", e);
+        }
+    }
+
+    public String evaluateStatus(Tasks task) {
+        return evaluateStatus(task.getQuestionnaireOne(), task.getQuestionnaireTwo(), task.getQuestionnaireThree(),
+                task.getQuestionnaireFour(), task.getQuestionnaireFive());
+    }
+
     // Evaluate task status
     // This method evaluates the status of a task based on the answers to the
     // questionnaires.
-    public String evaluateStatus(Tasks task) {
-        String q1 = task.getQuestionnaireOne();
-        String q2 = task.getQuestionnaireTwo();
-        String q3 = task.getQuestionnaireThree();
-        String q4 = task.getQuestionnaireFour();
-        String q5 = task.getQuestionnaireFive();
-
+    public static String evaluateStatus(String q1, String q2, String q3, String q4, String q5) {
         // RED: If safety issue exists
         if (q3 != null && !q3.equalsIgnoreCase("No")) {
             return "Critical";
@@ -102,4 +329,252 @@ public class TasksService {
         return "Urgent";
     }
 
+    // Bulk create tasks. Items without a taskId are rejected, the taskId is what the result is keyed by.
+    public TasksBulkResult bulkCreate(List<Tasks> tasks) {
+        if (tasks == null || tasks.isEmpty()) {
+            throw new IllegalArgumentException("No tasks given");
+        }
+        BulkOperations ops = mongoTemplate.bulkOps(BulkMode.UNORDERED, Tasks.class);
+        List<TasksBulkResult.Item> items = new ArrayList<>();
+        for (Tasks task : tasks) {
+            if (task == null || task.getTaskId() == null || task.getTaskId().isBlank()) {
+                items.add(new TasksBulkResult.Item(null, TasksBulkResult.FAILED, "taskId is required"));
+            } else {
+                ops.insert(task);
+                items.add(new TasksBulkResult.Item(task.getTaskId(), null, null));
+            }
+        }
+        return execute(ops, items);
+    }
+
+    // Bulk update fields on tasks selected by taskIds or filter
+    public TasksBulkResult bulkUpdate(TasksBulkRequest request) {
+        if (request.getFields() == null || request.getFields().isEmpty()) {
+            throw new IllegalArgumentException("No fields to update");
+        }
+        Update update = toUpdate(request.getFields());
+        BulkOperations ops = mongoTemplate.bulkOps(BulkMode.UNORDERED, Tasks.class);
+        // One updateOne per explicit taskId so failures map back to items, updateMulti for a filter
+        if (hasTaskIds(request)) {
+            TasksBulkResult result = forEachSelection(request, ops, query -> ops.updateOne(query, update));
+            result.setNotFound(Math.max(0, request.getTaskIds().size() - result.getMatched()));
+            return result;
+        }
+        return forEachSelection(request, ops, query -> ops.updateMulti(query, update));
+    }
+
+    // Bulk mark tasks as done. Like a submission, each task also gets the status of its answers.
+    // The status rules are expressed as queries, so this is one updateMulti per status in a single
+    // round trip and the selection is never read into memory.
+    public TasksBulkResult bulkComplete(TasksBulkRequest request) {
+        BulkOperations ops = mongoTemplate.bulkOps(BulkMode.ORDERED, Tasks.class);
+        Criteria critical = criticalAnswers();
+        Criteria normal = normalAnswers();
+        ops.updateMulti(selection(request).addCriteria(critical), completed("Critical"));
+        ops.updateMulti(selection(request).addCriteria(normal), completed("Normal"));
+        ops.updateMulti(selection(request).addCriteria(new Criteria().norOperator(critical, normal)),
+                completed("Urgent"));
+
+        List<TasksBulkResult.Item> items = new ArrayList<>();
+        if (hasTaskIds(request)) {
+            request.getTaskIds().forEach(taskId -> items.add(new TasksBulkResult.Item(taskId, null, null)));
+        } else {
+            items.add(new TasksBulkResult.Item("filter", null, null));
+        }
+
+        TasksBulkResult result = new TasksBulkResult();
+        result.setItems(items);
+        BulkWriteResult writeResult;
+        String error = null;
+        try {
+            writeResult = ops.execute();
+        } catch (BulkOperationException e) {
+            // The three updates do not map to items, an error fails the whole selection
+            writeResult = e.getResult();
+            error = e.getErrors().get(0).getMessage();
+        }
+        for (TasksBulkResult.Item item : items) {
+            item.setStatus(error == null ? TasksBulkResult.OK : TasksBulkResult.FAILED);
+            item.setMessage(error);
+        }
+        result.setMatched(writeResult.getMatchedCount());
+        result.setModified(writeResult.getModifiedCount());
+        if (hasTaskIds(request)) {
+            result.setNotFound(Math.max(0, new HashSet<>(request.getTaskIds()).size() - result.getMatched()));
+        }
+        return result;
+    }
+
+    private static Update completed(String status) {
+        return new Update().set("done", true).set("status", status);
+    }
+
+    // The Critical rule of evaluateStatus as a query
+    private static Criteria criticalAnswers() {
+        return Criteria.where("questionnaireThree").ne(null).not().regex("^No$", "i");
+    }
+
+    // The Normal rule of evaluateStatus as a query, only meaningful for answers that are not Critical
+    private static Criteria normalAnswers() {
+        return new Criteria().andOperator(
+                Criteria.where("questionnaireOne").regex("^As expected$", "i"),
+                new Criteria().orOperator(
+                        Criteria.where("questionnaireTwo").is(null),
+                        Criteria.where("questionnaireTwo").regex("^\\s*$")),
+                Criteria.where("questionnaireThree").regex("^No$", "i"),
+                Criteria.where("questionnaireFour").regex("^(Excellent|Good)$", "i"),
+                Criteria.where("questionnaireFive").regex("^(Very Satisfied|Satisfied)$", "i"));
+    }
+
+    // Bulk delete tasks selected by taskIds or filter
+    public TasksBulkResult bulkDelete(TasksBulkRequest request) {
+        BulkOperations ops = mongoTemplate.bulkOps(BulkMode.UNORDERED, Tasks.class);
+        TasksBulkResult result = forEachSelection(request, ops, ops::remove);
+        if (hasTaskIds(request)) {
+            result.setNotFound(Math.max(0, request.getTaskIds().size() - result.getDeleted()));
+        }
+        return result;
+    }
+
+    // Queue one operation per taskId, or a single one for the filter, then run them in one round trip.
+    // An update or remove that matches nothing is not a write error: missing taskIds only show up in
+    // the notFound count, which callers derive from the matched or deleted count of the same write.
+    private TasksBulkResult forEachSelection(TasksBulkRequest request, BulkOperations ops,
+            Function<Query, BulkOperations> operation) {
+        List<TasksBulkResult.Item> items = new ArrayList<>();
+        if (hasTaskIds(request)) {
+            for (String taskId : request.getTaskIds()) {
+                operation.apply(Query.query(Criteria.where("taskId").is(taskId)));
+                items.add(new TasksBulkResult.Item(taskId, null, null));
+            }
+        } else {
+            operation.apply(selection(request));
+            items.add(new TasksBulkResult.Item("filter", null, null));
+        }
+        return execute(ops, items);
+    }
+
+    // A fresh query for the tasks a bulk request selects
+    private Query selection(TasksBulkRequest request) {
+        if (hasTaskIds(request)) {
+            return Query.query(Criteria.where("taskId").in(request.getTaskIds()));
+        }
+        if (request.getFilter() != null && !request.getFilter().isEmpty()) {
+            return toQuery(request.getFilter());
+        }
+        throw new IllegalArgumentException("Either taskIds or a non-empty filter is required");
+    }
+
+    // items holds one entry per requested item in request order. Entries without a status were
+    // queued on ops, in the same order, and get OK or FAILED from the bulk write.
+    private TasksBulkResult execute(BulkOperations ops, List<TasksBulkResult.Item> items) {
+        TasksBulkResult result = new TasksBulkResult();
+        result.setItems(items);
+        List<TasksBulkResult.Item> queued = items.stream().filter(item -> item.getStatus() == null).toList();
+        if (queued.isEmpty()) {
+            // Nothing to write, the driver rejects an empty bulk
+            return result;
+        }
+
+        List<BulkWriteError> errors = List.of();
+        BulkWriteResult writeResult;
+        try {
+            writeResult = ops.execute();
+        } catch (BulkOperationException e) {
+            // Unordered: the remaining operations still ran, only the listed ones failed
+            writeResult = e.getResult();
+            errors = e.getErrors();
+        }
+
+        for (BulkWriteError error : errors) {
+            TasksBulkResult.Item item = queued.get(error.getIndex());
+            item.setStatus(TasksBulkResult.FAILED);
+            item.setMessage(error.getMessage());
+        }
+        for (TasksBulkResult.Item item : queued) {
+            if (item.getStatus() == null) {
+                item.setStatus(TasksBulkResult.OK);
+            }
+        }
+
+        result.setInserted(writeResult.getInsertedCount());
+        result.setMatched(writeResult.getMatchedCount());
+        result.setModified(writeResult.getModifiedCount());
+        result.setDeleted(writeResult.getDeletedCount());
+        return result;
+    }
+
+    private boolean hasTaskIds(TasksBulkRequest request) {
+        return request.getTaskIds() != null && !request.getTaskIds().isEmpty();
+    }
+
+    private Query toQuery(TasksFilter filter) {
+        Query query = new Query();
+        if (filter.getManagerId() != null) {
+            query.addCriteria(Criteria.where("managerId").is(filter.getManagerId()));
+        }
+        if (filter.getEmployeeId() != null) {
+            query.addCriteria(Criteria.where("employeeId").is(filter.getEmployeeId()));
+        }
+        if (filter.getTitle() != null) {
+            query.addCriteria(Criteria.where("title").is(filter.getTitle()));
+        }
+        if (filter.getDone() != null) {
+            query.addCriteria(Criteria.where("done").is(filter.getDone()));
+        }
+        if (filter.getStartFrom() != null || filter.getStartTo() != null) {
+            Criteria startTime = Criteria.where("startTime");
+            if (filter.getStartFrom() != null) {
+                startTime.gte(filter.getStartFrom());
+            }
+            if (filter.getStartTo() != null) {
+                startTime.lt(filter.getStartTo());
+            }
+            query.addCriteria(startTime);
+        }
+        return query;
+    }
+
+    private Update toUpdate(Map<String, Object> fields) {
+        Update update = new Update();
+        fields.forEach((field, value) -> {
+            Class<?> type = BULK_UPDATABLE_FIELDS.get(field);
+            if (type == null) {
+                throw new IllegalArgumentException("Field cannot be bulk updated: " + field);
+            }
+            update.set(field, convert(field, type, value));
+        });
+        return update;
+    }
+
+    // JSON values to the type the field has on Tasks, anything else is rejected
+    private static Object convert(String field, Class<?> type, Object value) {
+        if (type == Boolean.class) {
+            if (!(value instanceof Boolean)) {
+                throw new IllegalArgumentException("Field " + field + " must be true or false");
+            }
+            return value;
+        }
+        if (value == null) {
+            return null;
+        }
+        if (type == Instant.class) {
+            if (value instanceof Number millis) {
+                return Instant.ofEpochMilli(millis.longValue());
+            }
+            if (value instanceof String text) {
+                try {
+                    return Instant.parse(text);
+                } catch (DateTimeParseException e) {
+                    // fall through to the error below
+                }
+            }
+            throw new IllegalArgumentException("Field " + field + " must be an ISO-8601 instant or epoch millis");
+        }
+        if (!(value instanceof String)) {
+            throw new IllegalArgumentException("Field " + field + " must be a string");
+        }
+        return value;
+    }
+
 }
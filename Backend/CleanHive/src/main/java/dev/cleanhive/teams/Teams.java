@@ -2,11 +2,13 @@ package dev.cleanhive.teams;
 
 import org.bson.types.ObjectId;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import java.time.Instant;
 import java.util.List;
 import java.util.ArrayList;
 
@@ -27,6 +29,13 @@ public class Teams {
     // ObjectId for the manager
     private String managerId;
 
+    // Code workers enter to join the team
+    @Indexed(unique = true, sparse = true)
+    private String joinCode;
+
+    // Join code stops working after this time (null = never)
+    private Instant joinCodeExpiresAt;
+
     public List<String> getEmployeeIds() {
         return employeeId;
     }
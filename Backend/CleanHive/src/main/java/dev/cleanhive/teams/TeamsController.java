@@ -46,6 +46,17 @@ public class TeamsController {
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
+    // Rotate the team's join code, optionally expiring after ttlHours
+    @PostMapping("/{managerId}/join-code")
+    public ResponseEntity<?> rotateJoinCode(@PathVariable String managerId,
+            @RequestParam(required = false) Long ttlHours) {
+        try {
+            return ResponseEntity.ok(teamsService.rotateJoinCode(managerId, ttlHours));
+        } catch (RuntimeException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
+        }
+    }
+
     // Add employee to team
     @PutMapping("/add-employee/{managerId}")
     public ResponseEntity<Teams> addEmployeeToTeam(@PathVariable String managerId,
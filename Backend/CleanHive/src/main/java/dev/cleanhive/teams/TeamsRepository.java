@@ -10,7 +10,7 @@ import org.springframework.stereotype.Repository;
 public interface TeamsRepository extends MongoRepository<Teams, ObjectId> {
     Optional<Teams> findByManagerId(String managerId);
 
-    Optional<Teams> findByManagerIdStartingWith(String teamCode);
+    Optional<Teams> findByJoinCode(String joinCode);
 
     // Find team by ID
     Optional<Teams> findById(String id);
@@ -1,24 +1,65 @@
 package dev.cleanhive.teams;
 
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
+import lombok.extern.slf4j.Slf4j;
+
 @Service
+@Slf4j
 public class TeamsService {
+
+    // No 0/o, 1/l/i, so codes survive being read out loud
+    private static final String JOIN_CODE_ALPHABET = "abcdefghjkmnpqrstuvwxyz23456789";
+    private static final int JOIN_CODE_LENGTH = 8;
+    private static final int JOIN_CODE_ATTEMPTS = 5;
+
+    private final SecureRandom random = new SecureRandom();
+
     @Autowired
     private TeamsRepository teamsRepository;
 
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    // 0 = join codes never expire
+    @Value("${cleanhive.teams.join-code-ttl-hours:0}")
+    private long joinCodeTtlHours;
+
     // Fetch all teams
     public List<Teams> allTeams() {
         return teamsRepository.findAll();
     }
 
-    // Save team to db
+    // Save team to db. The join code is never taken from the client: a saved team keeps its
+    // stored code, a new one gets a random code (rotateJoinCode is the only way to change it)
     public Teams saveTeams(Teams teams) {
-        return teamsRepository.save(teams);
+        Optional<Teams> stored = teams.getId() == null ? Optional.empty() : teamsRepository.findById(teams.getId());
+        if (stored.isPresent()) {
+            teams.setJoinCode(stored.get().getJoinCode());
+            teams.setJoinCodeExpiresAt(stored.get().getJoinCodeExpiresAt());
+            return teamsRepository.save(teams);
+        }
+        teams.setJoinCode(randomJoinCode());
+        teams.setJoinCodeExpiresAt(expiry(joinCodeTtlHours));
+        return saveWithUniqueJoinCode(teams);
     }
 
     // 🔥 Get team by managerId (needed for your GET /api/v1/teams/{managerId}
@@ -27,8 +68,34 @@ public class TeamsService {
         return teamsRepository.findByManagerId(managerId);
     }
 
+    // Resolve a join code with one lookup on the unique joinCode index; expired codes do not resolve
     public Optional<Teams> getTeamByTeamCode(String teamCode) {
-        return teamsRepository.findByManagerIdStartingWith(teamCode);
+        String code = teamCode.trim().toLowerCase(Locale.ROOT);
+        return teamsRepository.findByJoinCode(code)
+                .filter(t -> t.getJoinCodeExpiresAt() == null || t.getJoinCodeExpiresAt().isAfter(Instant.now()));
+    }
+
+    // Replace the team's join code with a new random one
+    public Teams rotateJoinCode(String managerId, Long ttlHours) {
+        Teams team = teamsRepository.findByManagerId(managerId)
+                .orElseThrow(() -> new RuntimeException("Team not found with manager ID: " + managerId));
+        team.setJoinCode(randomJoinCode());
+        team.setJoinCodeExpiresAt(expiry(ttlHours != null ? ttlHours : joinCodeTtlHours));
+        return saveWithUniqueJoinCode(team);
+    }
+
+    // Save, drawing a new random code while the current one collides, at most JOIN_CODE_ATTEMPTS times
+    private Teams saveWithUniqueJoinCode(Teams team) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return teamsRepository.save(team);
+            } catch (DuplicateKeyException e) {
+                if (attempt == JOIN_CODE_ATTEMPTS) {
+                    throw e;
+                }
+                team.setJoinCode(randomJoinCode());
+            }
+        }
     }
 
     public Optional<Teams> getTeamById(String id) {
@@ -65,4 +132,53 @@ public class TeamsService {
         teamsRepository.save(team);
     }
 
-}
\ No newline at end of file
+    // On startup, before the readiness probe passes: create the unique joinCode index and give
+    // teams created before join codes existed their legacy code (first 8 characters of the manager
+    // id), which older app versions show. Runs on every start, both steps are no-ops once done.
+    // A failure only delays it to the next start, so it does not keep the instance down.
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureJoinCodes() {
+        try {
+            IndexOperations indexOps = mongoTemplate.indexOps(Teams.class);
+            new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext())
+                    .resolveIndexFor(Teams.class)
+                    .forEach(indexOps::ensureIndex);
+
+            Query withoutCode = Query.query(Criteria.where("joinCode").exists(false));
+            for (Teams team : mongoTemplate.find(withoutCode, Teams.class)) {
+                String code = legacyJoinCode(team.getManagerId());
+                try {
+                    mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(team.getId())
+                            .and("joinCode").exists(false)), Update.update("joinCode", code), Teams.class);
+                } catch (DuplicateKeyException e) {
+                    // Two managers share the prefix, so the code was ambiguous anyway
+                    log.warn("Legacy join code {} is not unique, team {} gets a random one", code, team.getId());
+                    mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(team.getId())),
+                            Update.update("joinCode", randomJoinCode()), Teams.class);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not set up join codes, retrying on the next start", e);
+        }
+    }
+
+    private String legacyJoinCode(String managerId) {
+        if (managerId == null || managerId.length() < JOIN_CODE_LENGTH) {
+            return randomJoinCode();
+        }
+        return managerId.substring(0, JOIN_CODE_LENGTH).toLowerCase(Locale.ROOT);
+    }
+
+    private String randomJoinCode() {
+        StringBuilder code = new StringBuilder(JOIN_CODE_LENGTH);
+        for (int i = 0; i < JOIN_CODE_LENGTH; i++) {
+            code.append(JOIN_CODE_ALPHABET.charAt(random.nextInt(JOIN_CODE_ALPHABET.length())));
+        }
+        return code.toString();
+    }
+
+    private static Instant expiry(long ttlHours) {
+        return ttlHours > 0 ? Instant.now().plus(Duration.ofHours(ttlHours)) : null;
+    }
+
+}
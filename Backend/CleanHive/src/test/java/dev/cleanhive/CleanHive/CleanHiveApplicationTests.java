@@ -2,8 +2,12 @@ package dev.cleanhive.CleanHive;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import dev.cleanhive.MongoTestBase;
 
 @SpringBootTest
+@Import(MongoTestBase.InMemoryMongo.class)
 class CleanHiveApplicationTests {
 
 	@Test
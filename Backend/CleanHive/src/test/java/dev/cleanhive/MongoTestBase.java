@@ -0,0 +1,49 @@
+package dev.cleanhive;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+
+// Mongo slice against an in-memory server. Subclasses @Import the services they test, mock the rest
+// with @MockitoBean and take both through an @Autowired constructor. The database is dropped before
+// every test.
+@DataMongoTest
+@Import(MongoTestBase.InMemoryMongo.class)
+public abstract class MongoTestBase {
+
+    protected final MongoTemplate mongoTemplate;
+
+    protected MongoTestBase(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @BeforeEach
+    void dropDatabase() {
+        mongoTemplate.getDb().drop();
+    }
+
+    // Also imported by CleanHiveApplicationTests, so the full context starts without a real cluster
+    @TestConfiguration(proxyBeanMethods = false)
+    public static class InMemoryMongo {
+
+        @Bean(destroyMethod = "shutdown")
+        MongoServer mongoServer() {
+            return new MongoServer(new MemoryBackend());
+        }
+
+        // Replaces the auto-configured client, so nothing connects to the configured cluster
+        @Bean(destroyMethod = "close")
+        MongoClient mongoClient(MongoServer mongoServer) {
+            return MongoClients.create(mongoServer.bindAndGetConnectionString());
+        }
+    }
+}
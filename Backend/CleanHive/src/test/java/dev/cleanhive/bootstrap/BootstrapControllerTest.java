@@ -0,0 +1,89 @@
+package dev.cleanhive.bootstrap;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Instant;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class BootstrapControllerTest {
+
+    private BootstrapService bootstrapService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        bootstrapService = mock(BootstrapService.class);
+        BootstrapController controller = new BootstrapController();
+        ReflectionTestUtils.setField(controller, "bootstrapService", bootstrapService);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void dayDefaultsToUtc() throws Exception {
+        mockMvc.perform(get("/api/v1/bootstrap/manager/m1").param("date", "2026-10-19"))
+                .andExpect(status().isOk());
+
+        verify(bootstrapService).managerBootstrap("m1", Instant.parse("2026-10-19T00:00:00Z"),
+                Instant.parse("2026-10-20T00:00:00Z"));
+    }
+
+    @Test
+    void dayIsTakenInTheRequestedZone() throws Exception {
+        mockMvc.perform(get("/api/v1/bootstrap/worker/w1").param("date", "2026-10-19").param("tz", "Europe/Istanbul"))
+                .andExpect(status().isOk());
+
+        verify(bootstrapService).workerBootstrap("w1", Instant.parse("2026-10-18T21:00:00Z"),
+                Instant.parse("2026-10-19T21:00:00Z"));
+    }
+
+    @Test
+    void dayFollowsDaylightSavingChanges() throws Exception {
+        // Clocks go back on 2026-10-25 in Berlin, that day is 25 hours long
+        mockMvc.perform(get("/api/v1/bootstrap/worker/w1").param("date", "2026-10-25").param("tz", "Europe/Berlin"))
+                .andExpect(status().isOk());
+
+        verify(bootstrapService).workerBootstrap("w1", Instant.parse("2026-10-24T22:00:00Z"),
+                Instant.parse("2026-10-25T23:00:00Z"));
+    }
+
+    @Test
+    void badZoneIsRejected() throws Exception {
+        mockMvc.perform(get("/api/v1/bootstrap/manager/m1").param("date", "2026-10-19").param("tz", "Mars/Olympus"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(bootstrapService);
+    }
+
+    @Test
+    void badDateIsRejected() throws Exception {
+        mockMvc.perform(get("/api/v1/bootstrap/worker/w1").param("date", "2026-13-40"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(bootstrapService);
+    }
+
+    @Test
+    void fullPoolAnswersServiceUnavailable() throws Exception {
+        when(bootstrapService.managerBootstrap(eq("m1"), any(), any()))
+                .thenThrow(new RejectedExecutionException("full"));
+
+        mockMvc.perform(get("/api/v1/bootstrap/manager/m1").param("date", "2026-10-19"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+    }
+}
@@ -0,0 +1,118 @@
+package dev.cleanhive.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class AdaptiveLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SLOW = TimeUnit.SECONDS.toNanos(5);
+
+    @Test
+    void growsByAboutOnePerLimitOfFastResponsesWhileBinding() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(4, 1, 10, 0, 0, 100, 0.5);
+
+        underLoad(limiter, 6, FAST, false);
+
+        assertThat(limiter.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    void doesNotGrowWhileTheLimitIsUnused() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(4, 1, 10, 0, 0, 100, 0.5);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(limiter.acquire()).isTrue();
+            limiter.release(FAST, false);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    void backsOffOncePerLatencyWindowWhenSlowAndBinding() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(8, 2, 10, 0, 0, 1000, 0.5);
+
+        underLoad(limiter, 8, SLOW, false);
+
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    void slowResponsesDoNotShedAnUnusedLimit() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(8, 2, 10, 0, 0, 100, 0.5);
+
+        assertThat(limiter.acquire()).isTrue();
+        limiter.release(SLOW, true);
+
+        assertThat(limiter.getLimit()).isEqualTo(8);
+    }
+
+    @Test
+    void neverBacksOffBelowTheMinimum() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(4, 3, 10, 0, 0, 0, 0.5);
+
+        underLoad(limiter, 4, SLOW, true);
+
+        assertThat(limiter.getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    void rejectsAtOnceWhenTheQueueIsFull() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(1, 1, 1, 0, 1000, 100, 0.5);
+
+        assertThat(limiter.acquire()).isTrue();
+        assertThat(limiter.acquire()).isFalse();
+    }
+
+    @Test
+    void queuedCallerGetsTheReleasedSlot() throws Exception {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(1, 1, 1, 1, 5000, 100, 0.5);
+        assertThat(limiter.acquire()).isTrue();
+
+        CompletableFuture<Boolean> waiter = CompletableFuture.supplyAsync(limiter::acquire);
+        while (limiter.getQueued() == 0) {
+            Thread.sleep(1);
+        }
+        limiter.release(FAST, false);
+
+        assertThat(waiter.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    void queuedCallerGivesUpAfterMaxWait() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(1, 1, 1, 1, 20, 100, 0.5);
+        assertThat(limiter.acquire()).isTrue();
+
+        assertThat(limiter.acquire()).isFalse();
+        assertThat(limiter.getQueued()).isZero();
+    }
+
+    @Test
+    void estimatesTheDrainTimeFromTheBacklogAndLatency() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(2, 1, 2, 0, 0, 60_000, 0.5);
+        assertThat(limiter.acquire()).isTrue();
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(100), false);
+
+        assertThat(limiter.acquire()).isTrue();
+        assertThat(limiter.acquire()).isTrue();
+
+        // Two in flight on two slots at 100 ms each
+        assertThat(limiter.estimatedDrainMs()).isEqualTo(100);
+    }
+
+    // Sustained demand: every freed slot is taken again before the next response comes back
+    private static void underLoad(AdaptiveLimiter limiter, int responses, long latencyNanos, boolean failed) {
+        for (int i = 0; i < responses; i++) {
+            while (limiter.getInFlight() < limiter.getLimit()) {
+                assertThat(limiter.acquire()).isTrue();
+            }
+            limiter.release(latencyNanos, failed);
+        }
+    }
+}
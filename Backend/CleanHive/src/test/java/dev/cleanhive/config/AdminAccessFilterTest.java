@@ -0,0 +1,44 @@
+package dev.cleanhive.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class AdminAccessFilterTest {
+
+    private final AdminAccessFilter filter = new AdminAccessFilter("s3cret");
+
+    @Test
+    void adminAndActuatorEndpointsNeedTheToken() throws Exception {
+        assertThat(status(filter, "/api/v1/admin/bulkheads", null)).isEqualTo(401);
+        assertThat(status(filter, "/actuator/slowqueries", "Bearer wrong")).isEqualTo(401);
+        assertThat(status(filter, "/actuator/slowqueries", "Bearer s3cret")).isEqualTo(200);
+    }
+
+    @Test
+    void healthPrometheusAndTheApiStayOpen() throws Exception {
+        assertThat(status(filter, "/actuator/health/readiness", null)).isEqualTo(200);
+        assertThat(status(filter, "/actuator/prometheus", null)).isEqualTo(200);
+        assertThat(status(filter, "/api/v1/tasks", null)).isEqualTo(200);
+    }
+
+    @Test
+    void withoutATokenAdminEndpointsAreOff() throws Exception {
+        assertThat(status(new AdminAccessFilter(""), "/api/v1/admin/archive", "Bearer ")).isEqualTo(403);
+    }
+
+    private static int status(AdminAccessFilter filter, String path, String authorization) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        if (authorization != null) {
+            request.addHeader(HttpHeaders.AUTHORIZATION, authorization);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response.getStatus();
+    }
+}
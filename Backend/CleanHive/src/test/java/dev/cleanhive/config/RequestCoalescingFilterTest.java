@@ -0,0 +1,139 @@
+package dev.cleanhive.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+
+class RequestCoalescingFilterTest {
+
+    private final RequestCoalescingFilter filter = new RequestCoalescingFilter(new SimpleMeterRegistry(), true,
+            List.of("/api/v1/rooms"), 5000);
+
+    private final ExecutorService threads = Executors.newCachedThreadPool();
+
+    // Downstream of the filter: counts executions and holds the first one until released
+    private final AtomicInteger calls = new AtomicInteger();
+    private final CountDownLatch leaderStarted = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final FilterChain rooms = (request, response) -> {
+        calls.incrementAndGet();
+        leaderStarted.countDown();
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        response.setContentType("application/json");
+        response.getWriter().write("[\"Room 42\"]");
+    };
+
+    @AfterEach
+    void stopThreads() {
+        release.countDown();
+        threads.shutdownNow();
+    }
+
+    @Test
+    void concurrentIdenticalGetsRunOnce() throws Exception {
+        Future<MockHttpServletResponse> leader = send(get("10.0.0.1"));
+        assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        List<Future<MockHttpServletResponse>> followers = new ArrayList<>();
+        for (int i = 2; i <= 5; i++) {
+            followers.add(send(get("10.0.0." + i)));
+        }
+        awaitFollowers();
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS).getContentAsString()).isEqualTo("[\"Room 42\"]");
+        for (Future<MockHttpServletResponse> follower : followers) {
+            MockHttpServletResponse response = follower.get(5, TimeUnit.SECONDS);
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(response.getContentAsString()).isEqualTo("[\"Room 42\"]");
+        }
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void requestsWithCredentialsAreNotShared() throws Exception {
+        Future<MockHttpServletResponse> leader = send(get("10.0.0.1"));
+        assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        MockHttpServletRequest alice = get("10.0.0.2");
+        alice.addHeader(HttpHeaders.AUTHORIZATION, "Bearer alice");
+        MockHttpServletRequest bob = get("10.0.0.2");
+        bob.addHeader(HttpHeaders.AUTHORIZATION, "Bearer bob");
+        Future<MockHttpServletResponse> first = send(alice);
+        Future<MockHttpServletResponse> second = send(bob);
+        release.countDown();
+
+        leader.get(5, TimeUnit.SECONDS);
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    void callerWhoWroteSinceTheLeaderStartedRunsOnTheirOwn() throws Exception {
+        Future<MockHttpServletResponse> leader = send(get("10.0.0.1"));
+        assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        MockHttpServletRequest write = new MockHttpServletRequest("POST", "/api/v1/rooms");
+        write.setRemoteAddr("10.0.0.2");
+        filter.doFilter(write, new MockHttpServletResponse(), (request, response) -> { });
+
+        Future<MockHttpServletResponse> writer = send(get("10.0.0.2"));
+        Future<MockHttpServletResponse> other = send(get("10.0.0.3"));
+        awaitFollowers();
+        release.countDown();
+
+        leader.get(5, TimeUnit.SECONDS);
+        assertThat(writer.get(5, TimeUnit.SECONDS).getContentAsString()).isEqualTo("[\"Room 42\"]");
+        assertThat(other.get(5, TimeUnit.SECONDS).getContentAsString()).isEqualTo("[\"Room 42\"]");
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void nonGetRequestsPassThrough() throws Exception {
+        release.countDown();
+        for (int i = 0; i < 2; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/rooms");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request, response, rooms);
+            assertThat(response.getContentAsString()).isEqualTo("[\"Room 42\"]");
+        }
+        assertThat(calls).hasValue(2);
+    }
+
+    private static MockHttpServletRequest get(String address) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/rooms");
+        request.setRemoteAddr(address);
+        return request;
+    }
+
+    private Future<MockHttpServletResponse> send(MockHttpServletRequest request) {
+        return threads.submit(() -> {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request, response, rooms);
+            return response;
+        });
+    }
+
+    // Followers block on the leader without a signal of their own, give them time to join
+    private static void awaitFollowers() throws InterruptedException {
+        Thread.sleep(300);
+    }
+}
@@ -0,0 +1,26 @@
+package dev.cleanhive.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+class SlowQueryListenerTest {
+
+    @Test
+    void redactedPlanKeepsStagesAndIndexesButNoValues() {
+        Document plan = Document.parse("""
+                {stage: "FETCH",
+                 filter: {email: {$eq: "jane@example.com"}},
+                 inputStage: {stage: "IXSCAN", indexName: "phoneNumber_1", keyPattern: {phoneNumber: 1},
+                   isMultiKey: false, direction: "forward",
+                   indexBounds: {phoneNumber: ["[\\"+905551234567\\", \\"+905551234567\\"]"]}},
+                 slotBasedPlan: {stages: "[1] ixseek \\"+905551234567\\""}}
+                """);
+
+        String redacted = SlowQueryListener.redactPlan(plan);
+
+        assertThat(redacted).contains("FETCH", "IXSCAN", "phoneNumber_1", "forward", "{email: {$eq: ?}}")
+                .doesNotContain("jane@example.com", "905551234567");
+    }
+}
@@ -0,0 +1,97 @@
+package dev.cleanhive.feedbacks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import jakarta.servlet.Filter;
+
+// The real message converters of WebConfig and PlainTextBodyAdvice, without the servlet filters
+@WebMvcTest(controllers = FeedbackController.class,
+        excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = Filter.class))
+class FeedbackControllerContentTypeTest {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @MockitoBean
+    private FeedbackService feedbackService;
+
+    private final MockMvc mockMvc;
+
+    @Autowired
+    FeedbackControllerContentTypeTest(MockMvc mockMvc) {
+        this.mockMvc = mockMvc;
+    }
+
+    @BeforeEach
+    void oneFeedback() {
+        Feedback feedback = new Feedback();
+        feedback.setFeedbackId("f1");
+        feedback.setRoomId("room-42");
+        feedback.setRating(4);
+        when(feedbackService.getAllFeedbacks()).thenReturn(List.of(feedback));
+    }
+
+    @Test
+    void answersInCborWhenAsked() throws Exception {
+        assertFeedbackDecodes(MediaType.APPLICATION_CBOR, new CBORFactory());
+    }
+
+    @Test
+    void answersInSmileWhenAsked() throws Exception {
+        assertFeedbackDecodes(SMILE, new SmileFactory());
+    }
+
+    @Test
+    void answersInJsonByDefault() throws Exception {
+        mockMvc.perform(get("/api/v1/feedbacks"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void errorMessagesStayPlainTextForBinaryClients() throws Exception {
+        for (MediaType binary : List.of(MediaType.APPLICATION_CBOR, SMILE)) {
+            mockMvc.perform(get("/api/v1/feedbacks/report")
+                    .param("from", "2026-02-01T00:00:00Z")
+                    .param("to", "2026-01-01T00:00:00Z")
+                    .header(HttpHeaders.ACCEPT, binary.toString()))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_PLAIN))
+                    .andExpect(content().string("from must be before to"));
+        }
+    }
+
+    private void assertFeedbackDecodes(MediaType type, JsonFactory factory) throws Exception {
+        byte[] body = mockMvc.perform(get("/api/v1/feedbacks").header(HttpHeaders.ACCEPT, type.toString()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(type))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode feedbacks = new ObjectMapper(factory).readTree(body);
+        assertThat(feedbacks).hasSize(1);
+        assertThat(feedbacks.get(0).get("roomId").asText()).isEqualTo("room-42");
+        assertThat(feedbacks.get(0).get("rating").asInt()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,141 @@
+package dev.cleanhive.reports;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import dev.cleanhive.MongoTestBase;
+import dev.cleanhive.archive.ArchiveService;
+import dev.cleanhive.config.StorageService;
+import dev.cleanhive.tasks.Tasks;
+import dev.cleanhive.tasks.TasksService;
+
+@Import(ExportService.class)
+class ExportServiceJobTest extends MongoTestBase {
+
+    private static final Instant FROM = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Instant TO = Instant.parse("2026-02-01T00:00:00Z");
+
+    @MockitoBean
+    private ArchiveService archiveService;
+
+    @MockitoBean
+    private StorageService storageService;
+
+    @MockitoBean
+    private TasksService tasksService;
+
+    private final ExportService exportService;
+
+    @Autowired
+    ExportServiceJobTest(MongoTemplate mongoTemplate, ExportService exportService) {
+        super(mongoTemplate);
+        this.exportService = exportService;
+    }
+
+    @BeforeEach
+    void archiveEverythingBeforeNow() {
+        when(archiveService.tasksArchivedBefore()).thenReturn(Instant.now());
+    }
+
+    @Test
+    void runsQueuedJobToDone() throws Exception {
+        mongoTemplate.insert(task("t2", "2026-01-10T08:00:00Z"));
+        Tasks archived = task("t1", "2026-01-05T08:00:00Z");
+        mongoTemplate.insert(archived, ArchiveService.TASKS_ARCHIVE);
+        // Caught between archival's copy and delete, exported once
+        Tasks moving = task("t3", "2026-01-20T08:00:00Z");
+        mongoTemplate.insert(moving);
+        mongoTemplate.insert(moving, ArchiveService.TASKS_ARCHIVE);
+        mongoTemplate.insert(task("outside", "2026-03-01T08:00:00Z"));
+
+        ByteArrayOutputStream uploaded = new ByteArrayOutputStream();
+        doAnswer(invocation -> {
+            invocation.<StorageService.ContentWriter>getArgument(2).writeTo(uploaded);
+            return (long) uploaded.size();
+        }).when(storageService).uploadStream(anyString(), eq("text/csv"), any());
+
+        ExportJob queued = exportService.submit("m1", FROM, TO);
+        assertThat(queued.getStatus()).isEqualTo(ExportJob.Status.QUEUED);
+
+        ExportJob job = awaitFinished(queued.getJobId());
+        assertThat(job.getStatus()).isEqualTo(ExportJob.Status.DONE);
+        assertThat(job.getFileName()).isEqualTo("exports/" + job.getJobId() + ".csv");
+        assertThat(job.getRowsWritten()).isEqualTo(3);
+        assertThat(job.getProgress()).isEqualTo(100);
+        assertThat(uploaded.toString(StandardCharsets.UTF_8).split("\r\n"))
+                .extracting(line -> line.substring(0, line.indexOf(',')))
+                .containsExactly("taskId", "t1", "t2", "t3");
+    }
+
+    @Test
+    void failedUploadMarksJobFailed() throws Exception {
+        mongoTemplate.insert(task("t1", "2026-01-05T08:00:00Z"));
+        doThrow(new IOException("Bucket unavailable")).when(storageService)
+                .uploadStream(anyString(), anyString(), any());
+
+        ExportJob job = awaitFinished(exportService.submit("m1", FROM, TO).getJobId());
+
+        assertThat(job.getStatus()).isEqualTo(ExportJob.Status.FAILED);
+        assertThat(job.getError()).isEqualTo("Bucket unavailable");
+        assertThat(job.getFileName()).isNull();
+    }
+
+    @Test
+    void jobsWithoutHeartbeatAreFailed() {
+        ExportJob stale = runningJob("stale", Instant.now().minus(Duration.ofHours(1)));
+        ExportJob alive = runningJob("alive", Instant.now());
+
+        exportService.failStaleJobs();
+
+        assertThat(exportService.getJob(stale.getJobId()).orElseThrow().getStatus()).isEqualTo(ExportJob.Status.FAILED);
+        assertThat(exportService.getJob(alive.getJobId()).orElseThrow().getStatus()).isEqualTo(ExportJob.Status.RUNNING);
+    }
+
+    private ExportJob runningJob(String jobId, Instant heartbeatAt) {
+        ExportJob job = new ExportJob(jobId, "m1", FROM, TO, "another-instance");
+        job.setStatus(ExportJob.Status.RUNNING);
+        job.setHeartbeatAt(heartbeatAt);
+        return mongoTemplate.insert(job);
+    }
+
+    private ExportJob awaitFinished(String jobId) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            ExportJob job = exportService.getJob(jobId).orElseThrow();
+            if (job.getStatus() == ExportJob.Status.DONE || job.getStatus() == ExportJob.Status.FAILED) {
+                return job;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("Export " + jobId + " did not finish");
+    }
+
+    private static Tasks task(String taskId, String startTime) {
+        Tasks task = new Tasks();
+        task.setId(new ObjectId());
+        task.setTaskId(taskId);
+        task.setManagerId("m1");
+        task.setTitle("Room " + taskId);
+        task.setStartTime(Instant.parse(startTime));
+        task.setEndTime(Instant.parse(startTime).plus(Duration.ofHours(1)));
+        return task;
+    }
+}
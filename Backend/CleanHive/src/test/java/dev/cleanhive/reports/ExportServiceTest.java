@@ -0,0 +1,28 @@
+package dev.cleanhive.reports;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.Test;
+
+class ExportServiceTest {
+
+    @Test
+    void quotesSeparatorsAndQuotes() throws IOException {
+        assertThat(row("a,b", "say \"hi\"", null, "plain")).isEqualTo("\"a,b\",\"say \"\"hi\"\"\",,plain\r\n");
+    }
+
+    @Test
+    void neutralisesFormulaCells() throws IOException {
+        assertThat(row("=HYPERLINK(\"x\")", "+1", "-2", "@SUM(A1)", "ok"))
+                .isEqualTo("\"'=HYPERLINK(\"\"x\"\")\",'+1,'-2,'@SUM(A1),ok\r\n");
+    }
+
+    private static String row(String... values) throws IOException {
+        StringWriter writer = new StringWriter();
+        ExportService.writeRow(writer, values);
+        return writer.toString();
+    }
+}
@@ -0,0 +1,124 @@
+package dev.cleanhive.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class NgramIndexTest {
+
+    private final List<Room> rooms = new ArrayList<>();
+    private final List<String> scopeLoads = new ArrayList<>();
+    private int fullLoads;
+
+    private NgramIndex<Room> index;
+
+    @BeforeEach
+    void setUp() {
+        rooms.add(new Room("r1", "team-a", "Kitchen", "1"));
+        rooms.add(new Room("r2", "team-a", "Meeting Room", "2"));
+        rooms.add(new Room("r3", "team-a", "Room Service", "2"));
+        rooms.add(new Room("r4", "team-b", "Kitchen", "1"));
+        rooms.add(new Room("r5", "team-a", "Çay Ocağı", "3"));
+        index = new NgramIndex<>(Room::id, Room::team, room -> List.of(room.name(), room.floor()),
+                scope -> {
+                    scopeLoads.add(scope);
+                    return rooms.stream().filter(room -> room.team().equals(scope)).toList();
+                },
+                () -> {
+                    fullLoads++;
+                    return List.copyOf(rooms);
+                });
+    }
+
+    @Test
+    void ranksExactBeforePrefixBeforeWordPrefixBeforeSubstring() {
+        rooms.add(new Room("r6", "team-a", "Room", "4"));
+        rooms.add(new Room("r7", "team-a", "Bathroom", "4"));
+
+        SearchPage<Room> page = index.search("team-a", "room", 0, 10);
+
+        assertThat(page.getContent()).extracting(Room::id).containsExactly("r6", "r3", "r2", "r7");
+        assertThat(page.getTotalElements()).isEqualTo(4);
+    }
+
+    @Test
+    void pageFarPastTheMatchesIsEmpty() {
+        SearchPage<Room> page = index.search("team-a", "", 20_000_000, 200);
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.getTotalElements()).isEqualTo(4);
+    }
+
+    @Test
+    void searchesOnlyTheRequestedScope() {
+        SearchPage<Room> page = index.search("team-b", "kit", 0, 10);
+
+        assertThat(page.getContent()).extracting(Room::id).containsExactly("r4");
+        assertThat(scopeLoads).containsExactly("team-b");
+        assertThat(fullLoads).isZero();
+    }
+
+    @Test
+    void shortQueriesMatchWithinTheScope() {
+        assertThat(index.search("team-a", "ki", 0, 10).getContent()).extracting(Room::id).containsExactly("r1");
+        assertThat(index.search("team-a", "", 0, 10).getTotalElements()).isEqualTo(4);
+    }
+
+    @Test
+    void ignoresCaseAndAccents() {
+        assertThat(index.search("team-a", "CAY OCAGI", 0, 10).getContent()).extracting(Room::id)
+                .containsExactly("r5");
+    }
+
+    @Test
+    void pagesThroughTheMatches() {
+        SearchPage<Room> second = index.search("team-a", "", 1, 3);
+
+        assertThat(second.getContent()).hasSize(1);
+        assertThat(second.getTotalElements()).isEqualTo(4);
+    }
+
+    @Test
+    void appliesWritesToLoadedScopes() {
+        index.search("team-a", "", 0, 10);
+
+        index.put(new Room("r6", "team-a", "Laundry", "0"));
+        index.remove("r1");
+
+        assertThat(index.search("team-a", "laun", 0, 10).getContent()).extracting(Room::id).containsExactly("r6");
+        assertThat(index.search("team-a", "kitchen", 0, 10).getContent()).isEmpty();
+        assertThat(scopeLoads).containsExactly("team-a");
+    }
+
+    @Test
+    void refreshReloadsEveryScopeAtOnce() {
+        index.search("team-a", "", 0, 10);
+        rooms.add(new Room("r6", "team-a", "Laundry", "0"));
+
+        index.refresh();
+
+        assertThat(index.search("team-a", "laundry", 0, 10).getContent()).extracting(Room::id).containsExactly("r6");
+        assertThat(index.search("team-b", "kitchen", 0, 10).getContent()).extracting(Room::id).containsExactly("r4");
+        assertThat(scopeLoads).containsExactly("team-a");
+        assertThat(fullLoads).isEqualTo(1);
+    }
+
+    @Test
+    void reloadScopeReplacesOnlyThatScope() {
+        index.search("team-a", "", 0, 10);
+        index.search("team-b", "", 0, 10);
+        rooms.removeIf(room -> room.id().equals("r1"));
+
+        index.reloadScope("team-a");
+
+        assertThat(index.keys("team-a")).containsExactlyInAnyOrder("r2", "r3", "r5");
+        assertThat(index.keys("team-b")).containsExactly("r4");
+    }
+
+    private record Room(String id, String team, String name, String floor) {
+    }
+}
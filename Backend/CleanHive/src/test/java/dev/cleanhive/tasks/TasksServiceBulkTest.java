@@ -0,0 +1,164 @@
+package dev.cleanhive.tasks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import dev.cleanhive.MongoTestBase;
+import dev.cleanhive.archive.ArchiveService;
+import dev.cleanhive.config.StorageService;
+
+@Import(TasksService.class)
+class TasksServiceBulkTest extends MongoTestBase {
+
+    @MockitoBean
+    private ArchiveService archiveService;
+
+    @MockitoBean
+    private StorageService storageService;
+
+    private final TasksService tasksService;
+
+    @Autowired
+    TasksServiceBulkTest(MongoTemplate mongoTemplate, TasksService tasksService) {
+        super(mongoTemplate);
+        this.tasksService = tasksService;
+    }
+
+    @BeforeEach
+    void insertTasks() {
+        mongoTemplate.insert(task("t1", "As expected", "No"));
+        mongoTemplate.insert(task("t2", "Dirty", "Wet floor"));
+    }
+
+    @Test
+    void bulkUpdateCountsUnknownTaskIdsAsNotFound() {
+        TasksBulkRequest request = new TasksBulkRequest();
+        request.setTaskIds(List.of("t1", "missing", "t2"));
+        request.setFields(Map.of("title", "Room 42"));
+
+        TasksBulkResult result = tasksService.bulkUpdate(request);
+
+        assertThat(result.getItems()).extracting(TasksBulkResult.Item::getStatus).containsOnly(TasksBulkResult.OK);
+        assertThat(result.getModified()).isEqualTo(2);
+        assertThat(result.getNotFound()).isEqualTo(1);
+        assertThat(result.hasFailures()).isTrue();
+        assertThat(find("t2").getTitle()).isEqualTo("Room 42");
+    }
+
+    @Test
+    void bulkDeleteCountsUnknownTaskIdsAsNotFound() {
+        TasksBulkRequest request = new TasksBulkRequest();
+        request.setTaskIds(List.of("missing", "t1"));
+
+        TasksBulkResult result = tasksService.bulkDelete(request);
+
+        assertThat(result.getDeleted()).isEqualTo(1);
+        assertThat(result.getNotFound()).isEqualTo(1);
+        assertThat(mongoTemplate.count(new Query(), Tasks.class)).isEqualTo(1);
+    }
+
+    @Test
+    void bulkUpdateRejectsValuesOfTheWrongType() {
+        assertThatThrownBy(() -> tasksService.bulkUpdate(update("done", "yes")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> tasksService.bulkUpdate(update("title", 5)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> tasksService.bulkUpdate(update("startTime", "tomorrow")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> tasksService.bulkUpdate(update("startTime", true)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(find("t1").getTitle()).isEqualTo("Room 1");
+    }
+
+    @Test
+    void bulkCreateRejectsItemsWithoutTaskId() {
+        Tasks withoutId = task(null, "As expected", "No");
+
+        TasksBulkResult result = tasksService.bulkCreate(Arrays.asList(task("t3", "As expected", "No"), withoutId));
+
+        assertThat(result.getItems()).extracting(TasksBulkResult.Item::getStatus)
+                .containsExactly(TasksBulkResult.OK, TasksBulkResult.FAILED);
+        assertThat(result.getInserted()).isEqualTo(1);
+        assertThat(mongoTemplate.count(new Query(), Tasks.class)).isEqualTo(3);
+    }
+
+    @Test
+    void bulkCompleteSetsStatusFromTheAnswers() {
+        Tasks urgent = task("t3", "As expected", "No");
+        urgent.setQuestionnaireFour("Poor");
+        mongoTemplate.insert(urgent);
+        TasksBulkRequest request = new TasksBulkRequest();
+        request.setTaskIds(List.of("t1", "t2", "t3", "missing"));
+
+        TasksBulkResult result = tasksService.bulkComplete(request);
+
+        assertThat(result.getItems()).extracting(TasksBulkResult.Item::getStatus).containsOnly(TasksBulkResult.OK);
+        assertThat(result.getMatched()).isEqualTo(3);
+        assertThat(result.getNotFound()).isEqualTo(1);
+        for (String taskId : List.of("t1", "t2", "t3")) {
+            Tasks task = find(taskId);
+            assertThat(task.isDone()).isTrue();
+            assertThat(task.getStatus()).isEqualTo(tasksService.evaluateStatus(task));
+        }
+        assertThat(find("t1").getStatus()).isEqualTo("Normal");
+        assertThat(find("t2").getStatus()).isEqualTo("Critical");
+        assertThat(find("t3").getStatus()).isEqualTo("Urgent");
+    }
+
+    @Test
+    void bulkCompleteByFilterLeavesOtherManagersAlone() {
+        Tasks other = task("t3", "As expected", "No");
+        other.setManagerId("other");
+        mongoTemplate.insert(other);
+        TasksFilter filter = new TasksFilter();
+        filter.setManagerId("manager");
+        TasksBulkRequest request = new TasksBulkRequest();
+        request.setFilter(filter);
+
+        TasksBulkResult result = tasksService.bulkComplete(request);
+
+        assertThat(result.getMatched()).isEqualTo(2);
+        assertThat(find("t3").isDone()).isFalse();
+    }
+
+    private static TasksBulkRequest update(String field, Object value) {
+        Map<String, Object> fields = new HashMap<>();
+        fields.put(field, value);
+        TasksBulkRequest request = new TasksBulkRequest();
+        request.setTaskIds(List.of("t1"));
+        request.setFields(fields);
+        return request;
+    }
+
+    private Tasks find(String taskId) {
+        return mongoTemplate.findOne(Query.query(Criteria.where("taskId").is(taskId)), Tasks.class);
+    }
+
+    private static Tasks task(String taskId, String condition, String safety) {
+        Tasks task = new Tasks();
+        task.setTaskId(taskId);
+        task.setManagerId("manager");
+        task.setEmployeeId("employee");
+        task.setTitle("Room 1");
+        task.setQuestionnaireOne(condition);
+        task.setQuestionnaireTwo("");
+        task.setQuestionnaireThree(safety);
+        task.setQuestionnaireFour("Good");
+        task.setQuestionnaireFive("Satisfied");
+        return task;
+    }
+}
@@ -0,0 +1,116 @@
+package dev.cleanhive.tasks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.multipart.MultipartFile;
+
+import dev.cleanhive.MongoTestBase;
+import dev.cleanhive.archive.ArchiveService;
+import dev.cleanhive.config.StorageService;
+
+@Import(TasksService.class)
+class TasksServiceSubmitTest extends MongoTestBase {
+
+    @MockitoBean
+    private ArchiveService archiveService;
+
+    @MockitoBean
+    private StorageService storageService;
+
+    private final TasksService tasksService;
+    private Tasks task;
+
+    @Autowired
+    TasksServiceSubmitTest(MongoTemplate mongoTemplate, TasksService tasksService) {
+        super(mongoTemplate);
+        this.tasksService = tasksService;
+    }
+
+    @BeforeEach
+    void insertTask() {
+        task = new Tasks();
+        task.setTaskId("task-1");
+        task.setManagerId("manager");
+        task.setEmployeeId("employee");
+        task.setTitle("Room 1");
+        task = mongoTemplate.insert(task);
+    }
+
+    @Test
+    void unknownTaskIsNotFoundBeforeAnyUpload() {
+        Optional<Tasks> result = tasksService.submitTask("missing", "key-1", submission(photo("a.jpg")));
+
+        assertThat(result).isEmpty();
+        verifyNoInteractions(storageService);
+    }
+
+    @Test
+    void retryWithTheSameKeyReturnsTheAppliedTaskWithoutUploadingAgain() {
+        Tasks first = tasksService.submitTask("task-1", "key-1", submission(photo("a.jpg"))).orElseThrow();
+        Tasks retry = tasksService.submitTask("task-1", "key-1", submission(photo("a.jpg"))).orElseThrow();
+
+        assertThat(first.isDone()).isTrue();
+        assertThat(first.getStatus()).isEqualTo("Normal");
+        assertThat(retry.getSubmissionId()).isEqualTo("key-1");
+        assertThat(retry.getSubmissionTime()).isEqualTo(first.getSubmissionTime());
+        assertThat(retry.getImageUrls()).isEqualTo(first.getImageUrls());
+        verify(storageService, times(1)).uploadFile(any(MultipartFile.class), anyString());
+    }
+
+    @Test
+    void newKeyIsAppliedAgain() {
+        tasksService.submitTask("task-1", "key-1", submission(photo("a.jpg")));
+        Tasks second = tasksService.submitTask("task-1", "key-2", submission(photo("b.jpg"))).orElseThrow();
+
+        assertThat(second.getSubmissionId()).isEqualTo("key-2");
+        verify(storageService, times(2)).uploadFile(any(MultipartFile.class), anyString());
+    }
+
+    @Test
+    void photoKeysUseTheTaskObjectIdAndALowerCaseExtension() {
+        Tasks result = tasksService.submitTask("task-1", "key-1", submission(photo("PHOTO.JPEG"))).orElseThrow();
+
+        String key = task.getId().toHexString() + "_key-1_0.jpeg";
+        assertThat(result.getImageUrls()).containsExactly(key);
+        verify(storageService).uploadFile(any(MultipartFile.class), eq(key));
+    }
+
+    @Test
+    void rejectsMalformedIdempotencyKeys() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> tasksService.submitTask("task-1", "../key", submission()));
+        verifyNoInteractions(storageService);
+    }
+
+    private static TaskSubmission submission(MultipartFile... images) {
+        TaskSubmission submission = new TaskSubmission();
+        submission.setQuestionnaireOne("As expected");
+        submission.setQuestionnaireTwo("");
+        submission.setQuestionnaireThree("No");
+        submission.setQuestionnaireFour("Good");
+        submission.setQuestionnaireFive("Satisfied");
+        submission.setImages(List.of(images));
+        return submission;
+    }
+
+    private static MultipartFile photo(String name) {
+        return new MockMultipartFile("images", name, "image/jpeg", new byte[] { 1, 2, 3 });
+    }
+}
@@ -0,0 +1,104 @@
+package dev.cleanhive.teams;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import dev.cleanhive.MongoTestBase;
+
+@Import(TeamsService.class)
+class TeamsServiceJoinCodeTest extends MongoTestBase {
+
+    private final TeamsRepository teamsRepository;
+    private final TeamsService teamsService;
+
+    @Autowired
+    TeamsServiceJoinCodeTest(MongoTemplate mongoTemplate, TeamsRepository teamsRepository, TeamsService teamsService) {
+        super(mongoTemplate);
+        this.teamsRepository = teamsRepository;
+        this.teamsService = teamsService;
+    }
+
+    @Test
+    void newTeamGetsARandomCode() {
+        Teams team = teamsService.saveTeams(team("a1b2c3d4-manager"));
+
+        assertThat(team.getJoinCode()).matches("[a-z2-9]{8}").isNotEqualTo("a1b2c3d4");
+        assertThat(teamsService.getTeamByTeamCode(" " + team.getJoinCode().toUpperCase() + " "))
+                .map(Teams::getManagerId).contains("a1b2c3d4-manager");
+    }
+
+    @Test
+    void clientCannotChooseTheCode() {
+        Teams team = team("a1b2c3d4-manager");
+        team.setJoinCode("chosen");
+
+        Teams saved = teamsService.saveTeams(team);
+        saved.setJoinCode("changed");
+        Teams resaved = teamsService.saveTeams(saved);
+
+        assertThat(saved.getJoinCode()).isNotEqualTo("chosen");
+        assertThat(resaved.getJoinCode()).isEqualTo(teamsRepository.findById(saved.getId()).get().getJoinCode())
+                .isNotEqualTo("changed");
+        assertThat(teamsService.getTeamByTeamCode("chosen")).isEmpty();
+    }
+
+    @Test
+    void oldTeamsGetTheLegacyCodeOnStartup() {
+        mongoTemplate.insert(team("A1B2C3D4-first"));
+        mongoTemplate.insert(team("a1b2c3d4-second"));
+        mongoTemplate.insert(team("e5f6a7b8-other"));
+
+        teamsService.ensureJoinCodes();
+
+        assertThat(teamsService.getTeamByTeamCode("e5f6a7b8")).map(Teams::getManagerId).contains("e5f6a7b8-other");
+        // The two managers share the prefix, only one of them can keep it
+        assertThat(teamsRepository.findAll()).extracting(Teams::getJoinCode)
+                .allMatch(code -> code != null && code.length() == 8)
+                .doesNotHaveDuplicates()
+                .contains("a1b2c3d4");
+    }
+
+    @Test
+    void rotationRetiresTheOldCode() {
+        String oldCode = teamsService.saveTeams(team("a1b2c3d4-manager")).getJoinCode();
+
+        Teams rotated = teamsService.rotateJoinCode("a1b2c3d4-manager", null);
+
+        assertThat(rotated.getJoinCode()).isNotEqualTo(oldCode).matches("[a-z2-9]{8}");
+        assertThat(teamsService.getTeamByTeamCode(oldCode)).isEmpty();
+        assertThat(teamsService.getTeamByTeamCode(rotated.getJoinCode())).isPresent();
+    }
+
+    @Test
+    void rotationWithTtlSetsTheExpiry() {
+        teamsService.saveTeams(team("a1b2c3d4-manager"));
+
+        Teams rotated = teamsService.rotateJoinCode("a1b2c3d4-manager", 24L);
+
+        assertThat(rotated.getJoinCodeExpiresAt()).isAfter(Instant.now().plusSeconds(23 * 3600));
+    }
+
+    @Test
+    void expiredCodeDoesNotResolve() {
+        Teams team = teamsService.saveTeams(team("a1b2c3d4-manager"));
+        team.setJoinCodeExpiresAt(Instant.now().minusSeconds(1));
+        teamsRepository.save(team);
+
+        assertThat(teamsService.getTeamByTeamCode(team.getJoinCode())).isEmpty();
+    }
+
+    private static Teams team(String managerId) {
+        Teams team = new Teams();
+        team.setTeamName("Team " + managerId);
+        team.setManagerId(managerId);
+        team.setEmployeeIds(new ArrayList<>());
+        return team;
+    }
+}
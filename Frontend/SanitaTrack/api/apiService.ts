@@ -4,9 +4,28 @@ import * as MediaLibrary from 'expo-media-library';
 import * as Permissions from 'expo-permissions';
 import mime from 'mime';
 
+// Login is shed with a 503 when a shift start floods the server. Retry-After says when the
+// backlog should be gone, come back somewhere in [Retry-After, 2 x Retry-After] so the phones
+// do not all return at once
+const LOGIN_ATTEMPTS = 4;
+const MAX_RETRY_DELAY_MS = 30000;
+
+const sleep = (ms: number) => new Promise((resolve) => setTimeout(resolve, ms));
+
 export const login = async (phoneNumber: string, password: string) => {
-  const response = await axiosInstance.post('/users/login', { phoneNumber, password });
-  return response.data;
+  for (let attempt = 1; ; attempt++) {
+    try {
+      const response = await axiosInstance.post('/users/login', { phoneNumber, password });
+      return response.data;
+    } catch (error: any) {
+      if (error.response?.status !== 503 || attempt >= LOGIN_ATTEMPTS) {
+        throw error;
+      }
+      const retryAfter = Number(error.response.headers?.['retry-after']);
+      const delay = Math.min(MAX_RETRY_DELAY_MS, Number.isFinite(retryAfter) && retryAfter > 0 ? retryAfter * 1000 : 1000);
+      await sleep(delay + Math.random() * delay);
+    }
+  }
 };
 
 export const fetchRooms = async () => {
@@ -27,11 +46,38 @@ export const removeTeamMember = async (managerId: string, employeeId: string) =>
   return response.data;
 };
 
+// Team, members, rooms and the day's tasks for the manager home screen in one request.
+// date is yyyy-MM-dd; the day is taken in UTC like the calendar filter
+export const fetchManagerBootstrap = async (managerId: string, date: string) => {
+  const response = await axiosInstance.get(`/bootstrap/manager/${managerId}`, { params: { date } });
+  return response.data;
+};
+
+// Team, manager contact, rooms and the day's tasks for the worker homepage in one request
+export const fetchWorkerBootstrap = async (employeeId: string, date: string) => {
+  const response = await axiosInstance.get(`/bootstrap/worker/${employeeId}`, { params: { date } });
+  return response.data;
+};
+
 export const fetchTasks = async () => {
   const response = await axiosInstance.get(`/tasks`);
   return response.data;
 };
 
+// A manager's tasks starting in [from, to), archived ones included; done tasks carry their status
+// by: the task time the range applies to, 'startTime' or 'endTime'
+export const fetchTasksReport = async (
+  managerId: string,
+  from: Date,
+  to: Date,
+  by: 'startTime' | 'endTime' = 'startTime'
+) => {
+  const response = await axiosInstance.get('/tasks/report', {
+    params: { managerId, from: from.toISOString(), to: to.toISOString(), by },
+  });
+  return response.data;
+};
+
 export const createTask = async (task: {
   taskId: string;
   managerId: string;
@@ -152,6 +198,17 @@ export const fetchFeedbacks = async () => {
   return response.data;
 };
 
+// Feedback for a team's rooms submitted in [from, to), archived ones included
+// Rooms store their team id (the manager's id) sometimes wrapped in quotes
+export const normalizeTeamId = (id: string) => id.replace(/"/g, '');
+
+export const fetchFeedbacksReport = async (teamId: string, from: Date, to: Date) => {
+  const response = await axiosInstance.get('/feedbacks/report', {
+    params: { teamId, from: from.toISOString(), to: to.toISOString() },
+  });
+  return response.data;
+};
+
 export const uploadImage = async (fileUri: string) => {
   const mimeType = mime.getType(fileUri) || 'image/jpeg';
 
@@ -178,6 +235,45 @@ export const uploadImage = async (fileUri: string) => {
   };
 };
 
+// Submit a finished task in one request: questionnaire answers plus all photos.
+// Reuse the same idempotencyKey when retrying so the submission is applied only once.
+export const submitTaskWithImages = async (
+  taskId: string,
+  answers: {
+    submissionTime: Date;
+    questionnaireOne: string;
+    questionnaireTwo: string;
+    questionnaireThree: string;
+    questionnaireFour: string;
+    questionnaireFive: string;
+  },
+  imageUris: string[],
+  idempotencyKey: string
+) => {
+  const formData = new FormData();
+  formData.append('submissionTime', answers.submissionTime.toISOString());
+  formData.append('questionnaireOne', answers.questionnaireOne);
+  formData.append('questionnaireTwo', answers.questionnaireTwo);
+  formData.append('questionnaireThree', answers.questionnaireThree);
+  formData.append('questionnaireFour', answers.questionnaireFour);
+  formData.append('questionnaireFive', answers.questionnaireFive);
+  imageUris.forEach((uri, index) => {
+    formData.append('images', {
+      uri,
+      name: `image_${index}.${mime.getExtension(mime.getType(uri) || 'image/jpeg') || 'jpg'}`,
+      type: mime.getType(uri) || 'image/jpeg',
+    } as any);
+  });
+
+  const response = await axiosInstance.post(`/tasks/${taskId}/submit`, formData, {
+    headers: {
+      'Content-Type': 'multipart/form-data',
+      'Idempotency-Key': idempotencyKey,
+    },
+  });
+  return response.data;
+};
+
 // Download image and save to gallery
 export const downloadImage = async (fileName: string) => {
   try {
@@ -13,7 +13,7 @@ import {
 import Timeline from 'react-native-timeline-flatlist';
 import { Calendar, DateData } from 'react-native-calendars';
 import { Colors } from '@/constants/Colors';
-import { fetchTasks, fetchTeamByManager, fetchAllUsers } from '@/api/apiService'; // Function to fetch data from the backend
+import { fetchManagerBootstrap } from '@/api/apiService'; // Function to fetch data from the backend
 import { i18n } from '@/hooks/i18n';
 import AsyncStorage from '@react-native-async-storage/async-storage';
 import { router } from 'expo-router';
@@ -57,12 +57,12 @@ const ManagerHomepage = () => {
   // Language context for i18n
   const { language, changeLanguage } = useLanguage();
 
-  // Fetch team members when userID changes
+  // Load team members and the selected day's tasks when userID or the date changes
   useEffect(() => {
     if (userID) {
-      fetchTeamMembersData();
+      fetchHomeData();
     }
-  }, [userID]);
+  }, [userID, selectedDate]);
 
   // Fetch manager user ID from AsyncStorage on mount
   useEffect(() => {
@@ -89,28 +89,15 @@ const ManagerHomepage = () => {
     fetchUserID();
   }, []);
 
-  // Fetch all team members for this manager from backend
-  const fetchTeamMembersData = async () => {
+  // Fetch team members and tasks for the selected day in one request
+  const fetchHomeData = async () => {
     try {
-      // 1. Get all users
-      const allUsers = await fetchAllUsers();
-
-      // 2. Fetch team to get employee IDs
-      const team = await fetchTeamByManager(userID);
-
-      // 3. Ensure employeeId is an array
-      const employeeIds = Array.isArray(team.employeeId)
-        ? team.employeeId
-        : team.employeeId
-          ? [team.employeeId]
-          : [];
-
-      // 4. Filter users to get team members
-      const members = allUsers.filter((user: User) => employeeIds.includes(user.userId));
-
-      setTeamMembers(members);
+      const selected = selectedDate.toISOString().split('T')[0];
+      const home = await fetchManagerBootstrap(userID, selected);
+      setTeamMembers(home.members);
+      setTasks(home.tasks);
     } catch (error) {
-      console.error('Error fetching team members:', error);
+      console.error('Error fetching home screen data:', error);
     }
   };
 
@@ -127,7 +114,7 @@ const ManagerHomepage = () => {
   // Pull-to-refresh handler
   const onRefresh = async () => {
     setRefreshing(true);
-    await fetchTasksFromDatabase();
+    await fetchHomeData();
     setRefreshing(false);
   };
 
@@ -144,21 +131,6 @@ const ManagerHomepage = () => {
   // This function will be triggered when a day is selected in the calendar
   const onDayPress = (day: DateData) => setSelectedDate(new Date(day.dateString));
 
-  // Function to fetch tasks from the backend and update state
-  const fetchTasksFromDatabase = async () => {
-    try {
-      const response = await fetchTasks(); // Fetch tasks from the backend
-      setTasks(response); // Set tasks to state
-    } catch (error) {
-      console.error('Error fetching tasks:', error);
-    }
-  };
-
-  // Fetch tasks when the component mounts
-  useEffect(() => {
-    fetchTasksFromDatabase();
-  }, []);
-
   // Render details for each task in the timeline
   const renderDetail = (rowData: Task) => {
     // Parse start and end times
@@ -38,7 +38,7 @@ import { RefreshControl } from 'react-native';
 import { useLanguage } from '@/contexts/LanguageContext';
 
 // Import API services (replace with your actual API services)
-import { fetchTasks, fetchFeedbacks, fetchRooms, fetchAllUsers, getTaskStatus, downloadImage } from '@/api/apiService';
+import { fetchTasksReport, fetchFeedbacksReport, fetchRooms, fetchAllUsers, downloadImage, normalizeTeamId } from '@/api/apiService';
 
 // Define interfaces for type safety
 interface Task {
@@ -58,6 +58,7 @@ interface Task {
   questionnaireFive: string;
   done: boolean;
   submissionTime?: Date;
+  status?: 'Normal' | 'Urgent' | 'Critical';
   statusData?: 'Normal' | 'Urgent' | 'Critical';
 }
 
@@ -141,51 +142,52 @@ const ReportsScreen = () => {
   }, []);
 
   useEffect(() => {
-    // Fetch all data when userID is available
+    // Fetch the report data when userID is available or the date range changes
     if (userID) {
       fetchData();
     }
-  }, [userID]);
+  }, [userID, dateFilter]);
 
-  // Fetch all tasks, feedbacks, rooms, and users from backend
+  // Range to ask the backend for: from the start of the selected period, up to a year ahead.
+  // Tasks are asked for by endTime, the time the report shows and filters on.
+  const reportRange = () => {
+    const today = new Date();
+    today.setHours(0, 0, 0, 0);
+    let from = new Date(0);
+    if (dateFilter === 'today') {
+      from = today;
+    } else if (dateFilter === 'week') {
+      from = new Date(today);
+      from.setDate(today.getDate() - today.getDay());
+    } else if (dateFilter === 'month') {
+      from = new Date(today.getFullYear(), today.getMonth(), 1);
+    }
+    const to = new Date(today);
+    to.setFullYear(today.getFullYear() + 1);
+    return { from, to };
+  };
+
+  // Fetch the manager's tasks and feedback for the report range, plus rooms and users
   const fetchData = async () => {
     setLoading(true);
     try {
-      // Fetch all necessary data in parallel
+      // The report endpoints read the archive too, so old tasks and feedback stay in the report
+      const { from, to } = reportRange();
       const [tasksData, feedbacksData, roomsData, usersData] = await Promise.all([
-        fetchTasks(),
-        fetchFeedbacks(),
+        fetchTasksReport(userID, from, to, 'endTime'),
+        fetchFeedbacksReport(normalizeTeamId(userID), from, to),
         fetchRooms(),
         fetchAllUsers()
       ]);
 
-      // Only include completed tasks for the report
-      const completedTasks = tasksData.filter((task: Task) => task.done && task.managerId === userID);
-
-      // Fetch status for each task using getTaskStatus API
-      const tasksWithStatusPromises = completedTasks.map(async (task: Task) => {
-        try {
-          // Call the getTaskStatus API to get the task's status
-          const statusData = await getTaskStatus(task.taskId);
-
-          return {
-            ...task,
-            submissionTime: new Date(task.endTime), // Using endTime as submission time for demo
-            statusData: statusData // Use the status from the API response
-          };
-        } catch (error) {
-          console.error(`Error fetching status for task ${task.taskId}:`, error);
-          // If there's an error fetching the status, default to 'normal'
-          return {
-            ...task,
-            submissionTime: new Date(task.endTime),
-            statusData: 'Normal' as 'Normal' | 'Urgent' | 'Critical'
-          };
-        }
-      });
-
-      // Wait for all status fetches to complete
-      const tasksWithStatus = await Promise.all(tasksWithStatusPromises);
+      // Only include completed tasks for the report; the backend fills in their status
+      const tasksWithStatus = tasksData
+        .filter((task: Task) => task.done)
+        .map((task: Task) => ({
+          ...task,
+          submissionTime: new Date(task.endTime), // Using endTime as submission time for demo
+          statusData: task.status ?? 'Normal',
+        }));
 
       // Sort tasks by submission time (newest first)
       const sortedTasks = tasksWithStatus.sort((a: Task, b: Task) => {
@@ -210,7 +212,7 @@ const ReportsScreen = () => {
   const onRefresh = useCallback(() => {
     setRefreshing(true);
     fetchData();
-  }, [userID]);
+  }, [userID, dateFilter]);
 
   // Filter tasks based on search text, date filter, and status filter
   const filteredTasks = tasks.filter(task => {
@@ -37,7 +37,7 @@ import { Platform, TouchableOpacity, RefreshControl } from 'react-native';
 import { useLanguage } from '@/contexts/LanguageContext';
 
 // Mock API functions (to be replaced with actual API calls)
-import { fetchTasks, fetchRooms, fetchAllUsers, createTask, updateTask, deleteTask, fetchTeamByManager } from '@/api/apiService';
+import { fetchTasks, fetchRooms, fetchAllUsers, createTask, updateTask, deleteTask, fetchTeamByManager, normalizeTeamId } from '@/api/apiService';
 
 // Task, Room, and User interfaces for type safety
 interface Task {
@@ -185,9 +185,6 @@ const TaskManagerScreen = () => {
       const roomsData = await fetchRooms();
       if (!roomsData || roomsData.length === 0) return;
 
-      // Normalize teamId (remove quotes if they exist)
-      const normalizeTeamId = (id: string) => id.replace(/"/g, "");
-
       // Filter rooms with the manager ID
       const filteredRooms = roomsData.filter(
         (room: Room) => normalizeTeamId(room.teamId) === userID
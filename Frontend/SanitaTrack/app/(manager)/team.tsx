@@ -46,6 +46,8 @@ export default function TeamInfoScreen() {
   const [searchText, setSearchText] = useState('');
   // State for current manager's user ID
   const [userID, setUserID] = useState<string>('');
+  // State for the team's join code
+  const [joinCode, setJoinCode] = useState<string>('');
   // State for team members list
   const [teamMembers, setTeamMembers] = useState<User[]>([]);
   // State for loading spinner
@@ -82,6 +84,7 @@ export default function TeamInfoScreen() {
 
       // Fetch team info by manager ID
       const team = await fetchTeamByManager(managerId);
+      setJoinCode(team.joinCode || '');
       const ids = Array.isArray(team.employeeId) ? team.employeeId : [];
 
       // Fetch all users to match with team members
@@ -121,7 +124,7 @@ export default function TeamInfoScreen() {
   const handleShare = async () => {
     try {
       await Share.share({
-        message: `Join my team with this code: ${userID.slice(0, 8)}`,
+        message: `Join my team with this code: ${joinCode || userID.slice(0, 8)}`,
       });
     } catch (e) {
       console.error('Share error', e);
@@ -1,4 +1,4 @@
-import React, { useMemo, useState, useEffect } from 'react';
+import React, { useMemo, useState, useEffect, useRef } from 'react';
 import {
   Box,
   Text,
@@ -37,7 +37,7 @@ import { router } from 'expo-router';
 import { useLanguage } from '@/contexts/LanguageContext';
 import * as FileSystem from 'expo-file-system';
 
-import { fetchAllUsers, fetchTasks, fetchTeam, getTaskStatus, markTaskAsDone, updateTask, uploadImage } from '@/api/apiService';
+import { fetchWorkerBootstrap, submitTaskWithImages } from '@/api/apiService';
 
 // Task and User interfaces for type safety
 interface Task {
@@ -88,7 +88,10 @@ const WorkerHomepage = () => {
   const [selectedDate, setSelectedDate] = useState<Date>(new Date()); // Selected date in calendar
   const [tasks, setTasks] = useState<Task[]>([]); // All tasks
   const [userID, setUserID] = useState(''); // Current user ID
+  const [teamManagerId, setTeamManagerId] = useState<string | null>(null); // Manager of the worker's team, from the bootstrap
+  const [manager, setManager] = useState<User | null>(null); // Manager contact, from the bootstrap
   const [uploadedImages, setUploadedImages] = useState<UploadedImages>({}); // Uploaded images per task
+  const submissionKeys = useRef<Record<string, string>>({}); // Idempotency key per task, kept for retries
   const [calendarVisible, setCalendarVisible] = useState<boolean>(false); // Calendar visibility
   const onDayPress = (day: DateData) => setSelectedDate(new Date(day.dateString)); // Calendar day select
 
@@ -165,33 +168,29 @@ const WorkerHomepage = () => {
         return;
       }
 
-      // Step 1: Fetch the user's team
-
-      // Clean userId for comparison
-      const cleanedUserID = userID.replace(/^"(.*)"$/, '$1').trim();
-      const team = await fetchTeam(cleanedUserID);
+      // Team and manager come with the home screen bootstrap, load it if that has not finished yet
+      let managerId = teamManagerId;
+      let contact = manager;
+      if (!contact) {
+        const home = await fetchWorkerBootstrap(cleanedUserId, selectedDate.toISOString().split('T')[0]);
+        managerId = home.team?.managerId ?? null;
+        contact = home.manager ?? null;
+      }
 
-      const managerUserID = team.managerId;
-      if (!managerUserID) {
+      if (!managerId) {
         console.error("Manager UserID is not available.");
         alert(i18n.t('managerIdUnavailable'));
         return;
       }
 
-      // Step 2: Fetch all users and find the manager
-      const allUsers = await fetchAllUsers();
-      const manager = allUsers.find((user: User) => user.userId === managerUserID);
-
-      if (!manager) {
+      if (!contact) {
         console.error("Manager not found in user list.");
         alert(i18n.t('managerNotFound'));
         return;
       }
 
-      const phoneNumber = manager.phoneNumber;
-
-      // Step 3: Call the manager
-      Linking.openURL(`tel:${phoneNumber}`);
+      // Call the manager
+      Linking.openURL(`tel:${contact.phoneNumber}`);
     } catch (error) {
       console.error("Error calling manager:", error);
       alert(i18n.t('callFailed'));
@@ -258,57 +257,49 @@ const WorkerHomepage = () => {
     });
   };
 
-  // Fetch tasks from backend and update state
+  // Fetch the selected day's tasks from backend and update state
   const fetchTasksFromDatabase = async () => {
     try {
-      const response = await fetchTasks(); // Fetch tasks from the backend
-      const merged = mergeTasks(response, tasks); // Merge with existing tasks
+      const selected = selectedDate.toISOString().split('T')[0];
+      const home = await fetchWorkerBootstrap(cleanedUserId, selected); // Only this worker's tasks of the day
+      const merged = mergeTasks(home.tasks, tasks); // Merge with existing tasks
       setTasks(merged);
+      setTeamManagerId(home.team?.managerId ?? null);
+      setManager(home.manager ?? null);
     } catch (error) {
       console.error('Error fetching tasks:', error);
     }
   };
 
-  // Fetch tasks when userID changes
+  // Fetch tasks when userID or the selected date changes
   useEffect(() => {
     if (userID) {
       fetchTasksFromDatabase();
     }
-  }, [userID]);
+  }, [userID, selectedDate]);
 
   // Submit feedback for a task
   const submitTask = async (
     taskId: string,
-    updatedData: {
+    answers: {
       submissionTime: Date;
       questionnaireOne: string;
       questionnaireTwo: string;
       questionnaireThree: string;
       questionnaireFour: string;
       questionnaireFive: string;
-      imageUrl?: string; // make optional
-    }
+    },
+    imageUris: string[]
   ) => {
-    try {
-      const existingTask = tasks.find(task => task.taskId === taskId);
-      if (!existingTask) throw new Error("Task not found in local state");
-
-      // Use fallback imageUrl if not provided
-      const imageUrlToUse = updatedData.imageUrl || existingTask.imageUrl || '';
-      const updatedTask = {
-        ...existingTask,
-        ...updatedData,
-        imageUrl: imageUrlToUse, // ensure imageUrl always preserved
-        done: true,
-      };
-
-      const updated = await updateTask(taskId, updatedTask);
-      setTasks(tasks.map(task =>
-        task.taskId === taskId ? updated : task
-      ));
-    } catch (err) {
-      console.error('Failed to update task with questionnaire:', err);
+    // Same key on retry, so a submission that reached the server is not applied twice
+    if (!submissionKeys.current[taskId]) {
+      submissionKeys.current[taskId] = Date.now().toString(36) + Math.random().toString(36).slice(2, 10);
     }
+    const updated = await submitTaskWithImages(taskId, answers, imageUris, submissionKeys.current[taskId]);
+    delete submissionKeys.current[taskId];
+    setTasks(tasks.map(task =>
+      task.taskId === taskId ? updated : task
+    ));
   };
 
   // Render details for each task in the timeline
@@ -753,15 +744,8 @@ const WorkerHomepage = () => {
                 if (!isFormValid()) return;
                 if (currentTaskId) {
                   try {
-                    const localUri = uploadedImages[currentTaskId]?.[0];
-                    let imageUrl = '';
-
-                    if (localUri && localUri.startsWith('file://')) {
-                      const uploadedImageData = await uploadImage(localUri);
-                      imageUrl = uploadedImageData.url;
-                    } else {
-                      imageUrl = localUri || '';
-                    }
+                    // Only new photos are sent, the task keeps its stored imageUrl otherwise
+                    const imageUris = (uploadedImages[currentTaskId] || []).filter(uri => uri.startsWith('file://'));
 
                     await submitTask(currentTaskId, {
                       submissionTime: new Date(),
@@ -772,8 +756,7 @@ const WorkerHomepage = () => {
                       questionnaireThree: safety[0] || '',
                       questionnaireFour: roomCondition,
                       questionnaireFive: satisfaction[0] || '',
-                      imageUrl: imageUrl,
-                    });
+                    }, imageUris);
 
                     setModalVisible(false);
                   } catch (err) {